@@ -0,0 +1,69 @@
+package io.github.ocelot.window;
+
+import io.github.ocelot.window.input.KeyMods;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * Measures a full {@link WindowManager#update()} on the {@link HeadlessBackend} with input injected into every window, so the whole event pump can be profiled without a display. Each operation is one frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeadlessEventBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int windows;
+
+    @Param({"10", "100"})
+    public int eventsPerWindow;
+
+    private HeadlessBackend backend;
+    private WindowManager windowManager;
+    private long[] handles;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.backend = new HeadlessBackend();
+        this.windowManager = new WindowManager(this.backend);
+        this.handles = new long[this.windows];
+        for (int i = 0; i < this.windows; i++) {
+            Window window = this.windowManager.create("Window " + i, 320, 240, false);
+            window.addListener(new WindowEventListener() {
+                @Override
+                public void keyPressed(Window window, int key, int scanCode, KeyMods mods) {
+                    blackhole.consume(key);
+                }
+
+                @Override
+                public void mouseMoved(Window window, double x, double y) {
+                    blackhole.consume(x);
+                }
+            });
+            this.handles[i] = window.getHandle();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.windowManager.free();
+    }
+
+    @Benchmark
+    public void frame() {
+        for (long handle : this.handles) {
+            for (int i = 0; i < this.eventsPerWindow; i += 2) {
+                this.backend.inputKey(handle, GLFW_KEY_SPACE, 57, GLFW_PRESS, 0);
+                this.backend.inputCursorPos(handle, i, i);
+            }
+        }
+        this.windowManager.update();
+    }
+}
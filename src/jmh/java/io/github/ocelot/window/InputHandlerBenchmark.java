@@ -0,0 +1,75 @@
+package io.github.ocelot.window;
+
+import io.github.ocelot.window.input.KeyMods;
+import io.github.ocelot.window.input.KeyboardHandler;
+import io.github.ocelot.window.input.MouseHandler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * Measures the default input handlers and {@link KeyMods} creation using synthetic events.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputHandlerBenchmark {
+
+    private Window window;
+    private MouseHandler mouseHandler;
+    private KeyboardHandler keyboardHandler;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        this.window = new Window(null, 800, 600, false);
+        this.mouseHandler = new MouseHandler(this.window);
+        this.keyboardHandler = new KeyboardHandler();
+        for (int key = GLFW_KEY_A; key <= GLFW_KEY_Z; key += 2) {
+            this.keyboardHandler.keyPressed(this.window, key, key, KeyMods.of(0));
+        }
+        for (int scanCode = 0; scanCode < 256; scanCode += 3) {
+            this.keyboardHandler.keyPressed(this.window, GLFW_KEY_UNKNOWN, scanCode, KeyMods.of(0));
+        }
+    }
+
+    @Benchmark
+    public KeyMods keyModsNew() {
+        return new KeyMods(this.counter++ & 0x3F);
+    }
+
+    @Benchmark
+    public KeyMods keyModsInterned() {
+        return KeyMods.of(this.counter++ & 0x3F);
+    }
+
+    @Benchmark
+    public void mouseMoved() {
+        int i = this.counter++;
+        this.mouseHandler.mouseMoved(this.window, i & 1023, i & 511);
+    }
+
+    @Benchmark
+    public void mouseMovedAndAccumulated(Blackhole blackhole) {
+        int i = this.counter++;
+        this.mouseHandler.mouseMoved(this.window, i & 1023, i & 511);
+        blackhole.consume(this.mouseHandler.getAccumulatedDX());
+        blackhole.consume(this.mouseHandler.getAccumulatedDY());
+    }
+
+    @Benchmark
+    public boolean keyLookup() {
+        return this.keyboardHandler.isKeyPressed(GLFW_KEY_A + (this.counter++ & 31));
+    }
+
+    @Benchmark
+    public boolean scanCodeLookup() {
+        return this.keyboardHandler.isKeyPressed(GLFW_KEY_UNKNOWN, this.counter++ & 255);
+    }
+}
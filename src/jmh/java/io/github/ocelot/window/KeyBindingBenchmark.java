@@ -0,0 +1,89 @@
+package io.github.ocelot.window;
+
+import io.github.ocelot.window.input.KeyBinding;
+import io.github.ocelot.window.input.KeyBindings;
+import io.github.ocelot.window.input.KeyMods;
+import io.github.ocelot.window.input.KeyboardHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * Measures {@link KeyBindings} lookups and rebinding with 10,000 bound actions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyBindingBenchmark {
+
+    private static final int BINDINGS = 10_000;
+    private static final int EVENTS = 1024;
+
+    private Window window;
+    private KeyBindings bindings;
+    private int[] keys;
+    private int[] scanCodes;
+    private KeyMods[] mods;
+    private int fired;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        this.window = new Window(null, 800, 600, false);
+        this.bindings = new KeyBindings();
+        KeyBindings.ActionHandler handler = (window, action) -> this.fired++;
+
+        // Every key and scan code with every exact combination of shift, control, alt and super
+        int count = 0;
+        outer:
+        for (int mods = 0; mods < 16; mods++) {
+            for (int key = GLFW_KEY_SPACE; key <= GLFW_KEY_LAST; key++) {
+                if (count == BINDINGS) {
+                    break outer;
+                }
+                this.bindings.bind("key." + count, KeyBinding.key(key).require(mods).exact(), handler);
+                count++;
+            }
+            for (int scanCode = 0; scanCode <= KeyboardHandler.MAX_SCAN_CODE; scanCode++) {
+                if (count == BINDINGS) {
+                    break outer;
+                }
+                KeyBinding binding = KeyBinding.scanCode(scanCode).require(mods).exact();
+                if ((scanCode & 7) == 0) {
+                    binding = KeyBinding.key(GLFW_KEY_K).require(GLFW_MOD_CONTROL).then(binding);
+                }
+                this.bindings.bind("scan." + count, binding, handler);
+                count++;
+            }
+        }
+
+        this.keys = new int[EVENTS];
+        this.scanCodes = new int[EVENTS];
+        this.mods = new KeyMods[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            boolean scan = (i & 1) == 0;
+            this.keys[i] = scan ? GLFW_KEY_UNKNOWN : GLFW_KEY_SPACE + (i * 7) % (GLFW_KEY_LAST - GLFW_KEY_SPACE);
+            this.scanCodes[i] = (i * 13) & KeyboardHandler.MAX_SCAN_CODE;
+            this.mods[i] = KeyMods.of((i >> 1) & 0xF);
+        }
+    }
+
+    @Benchmark
+    public int keyPressed() {
+        int i = this.counter++ & (EVENTS - 1);
+        this.bindings.keyPressed(this.window, this.keys[i], this.scanCodes[i], this.mods[i]);
+        this.bindings.keyReleased(this.window, this.keys[i], this.scanCodes[i], this.mods[i]);
+        return this.fired;
+    }
+
+    @Benchmark
+    public void rebind() {
+        int i = this.counter++ & 255;
+        this.bindings.rebind("key." + i, KeyBinding.key(GLFW_KEY_SPACE + i).require(GLFW_MOD_SHIFT | GLFW_MOD_ALT).exact());
+    }
+}
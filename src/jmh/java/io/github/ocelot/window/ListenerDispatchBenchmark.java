@@ -0,0 +1,72 @@
+package io.github.ocelot.window;
+
+import io.github.ocelot.window.input.KeyMods;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * Measures the cost of sending a single GLFW callback through a window to its listeners.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListenerDispatchBenchmark {
+
+    @Param({"1", "8", "32"})
+    public int listeners;
+
+    private Window window;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        this.window = new Window(null, 800, 600, false);
+        for (int i = 0; i < this.listeners; i++) {
+            // Half of the listeners only care about keys, so they should not be called for mouse events
+            this.window.addListener(i % 2 == 0 ? new KeyListener() : new MouseListener());
+        }
+    }
+
+    @Benchmark
+    public void keyPressed() {
+        this.window.onKey(0L, GLFW_KEY_A + (this.counter++ & 15), 30, GLFW_PRESS, GLFW_MOD_SHIFT);
+    }
+
+    @Benchmark
+    public void mouseMoved() {
+        int i = this.counter++;
+        this.window.onCursorPos(0L, i & 1023, i & 511);
+    }
+
+    @Benchmark
+    public void mouseScrolled() {
+        // Nothing listens to scrolling, so this is the cost of an event with no subscribers
+        this.window.onScroll(0L, 0, 1);
+    }
+
+    private static class KeyListener implements WindowEventListener {
+
+        private int lastKey;
+
+        @Override
+        public void keyPressed(Window window, int key, int scanCode, KeyMods mods) {
+            this.lastKey = key;
+        }
+    }
+
+    private static class MouseListener implements WindowEventListener {
+
+        private double lastX;
+
+        @Override
+        public void mouseMoved(Window window, double x, double y) {
+            this.lastX = x;
+        }
+    }
+}
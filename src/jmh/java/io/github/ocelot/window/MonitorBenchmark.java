@@ -0,0 +1,51 @@
+package io.github.ocelot.window;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * Measures {@link WindowManager#findBestMonitor(Window)} over a grid of synthetic monitors. GLFW is initialized with the null platform, so no display is required.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonitorBenchmark {
+
+    @Param({"1", "4", "36"})
+    public int monitors;
+
+    private WindowManager windowManager;
+    private Window window;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        glfwInitHint(GLFW_PLATFORM, GLFW_PLATFORM_NULL);
+        this.windowManager = new WindowManager();
+
+        VideoMode mode = new VideoMode(1920, 1080, 8, 8, 8, 60);
+        int columns = (int) Math.ceil(Math.sqrt(this.monitors));
+        for (int i = 0; i < this.monitors; i++) {
+            this.windowManager.addMonitor(new Monitor(this.windowManager.getBackend(), 0x1000L + i, (i % columns) * mode.width(), (i / columns) * mode.height(), mode));
+        }
+        this.window = this.windowManager.create(800, 600, false);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.windowManager.free();
+    }
+
+    @Benchmark
+    public Monitor findBestMonitor() {
+        int i = this.counter++;
+        this.window.receive(WindowEventType.MOVED, (i * 97) & 4095, (i * 53) & 2047, 0, 0, 0, null);
+        return this.windowManager.findBestMonitor(this.window);
+    }
+}
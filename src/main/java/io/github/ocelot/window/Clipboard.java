@@ -0,0 +1,194 @@
+package io.github.ocelot.window;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * <p>Non-blocking access to the system clipboard. Reading the clipboard can require a round trip to another application, so requests are queued and serviced on the main thread during {@link WindowManager#update()}. Queuing a request {@link WindowManager#requestRedraw() requests a redraw}, so {@link WindowManager.UpdateMode#EVENT_DRIVEN event driven} updates wake up to service it.</p>
+ * <p>The last value read or written is cached. Reads use the cache until a window gains focus or the cache is older than the {@link #setMaxAge(double) maximum age}. This is only a heuristic: clipboard managers, scripts and other applications can change the clipboard without ever taking focus from these windows, so a read can return stale text for up to the maximum age. Use a maximum age of <code>0</code> only when that is acceptable. Writes made in the same frame are coalesced so only the last one reaches the system.</p>
+ * <p>All methods are safe to call from any thread.</p>
+ *
+ * @author Ocelot
+ * @see WindowManager#getClipboard()
+ */
+public final class Clipboard {
+
+    private final Supplier<String> reader;
+    private final Consumer<String> writer;
+    private final Runnable wakeUp;
+    private final List<CompletableFuture<String>> pendingReads;
+    private final List<CompletableFuture<Void>> pendingWriteFutures;
+    private String pendingWrite;
+    private String cached;
+    private boolean cacheValid;
+    private boolean hasValue;
+    private long cacheTime;
+    private long maxAge;
+    private long fetches;
+    private long changes;
+    private long coalescedWrites;
+
+    Clipboard(Supplier<String> reader, Consumer<String> writer, Runnable wakeUp) {
+        this.reader = reader;
+        this.writer = writer;
+        this.wakeUp = wakeUp;
+        this.pendingReads = new ArrayList<>();
+        this.pendingWriteFutures = new ArrayList<>();
+        this.maxAge = 5_000_000_000L;
+    }
+
+    /**
+     * Reads the clipboard. If the cached value is still valid or a write is pending, the returned future is already complete.
+     *
+     * @return A future completed with the clipboard contents or <code>null</code> if the clipboard is empty or not text
+     */
+    public CompletableFuture<String> read() {
+        boolean wake;
+        CompletableFuture<String> future;
+        synchronized (this) {
+            if (this.pendingWrite != null) {
+                return CompletableFuture.completedFuture(this.pendingWrite);
+            }
+            if (this.isCacheValid(System.nanoTime())) {
+                return CompletableFuture.completedFuture(this.cached);
+            }
+            future = new CompletableFuture<>();
+            wake = this.pendingReads.isEmpty() && this.pendingWriteFutures.isEmpty();
+            this.pendingReads.add(future);
+        }
+        if (wake) {
+            this.wakeUp.run();
+        }
+        return future;
+    }
+
+    /**
+     * Writes text to the clipboard. Reads made after this see the new value immediately, even before it is written to the system.
+     *
+     * @param text The text to put on the clipboard
+     * @return A future completed once the text has been written to the system clipboard
+     */
+    public CompletableFuture<Void> write(String text) {
+        boolean wake;
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (this.pendingWrite != null) {
+                this.coalescedWrites++;
+            }
+            this.pendingWrite = text;
+            wake = this.pendingReads.isEmpty() && this.pendingWriteFutures.isEmpty();
+            this.pendingWriteFutures.add(future);
+        }
+        if (wake) {
+            this.wakeUp.run();
+        }
+        return future;
+    }
+
+    /**
+     * Services queued reads and writes. Called on the main thread by the window manager.
+     */
+    void update() {
+        List<CompletableFuture<String>> reads;
+        List<CompletableFuture<Void>> writes;
+        String write;
+        synchronized (this) {
+            if (this.pendingReads.isEmpty() && this.pendingWriteFutures.isEmpty()) {
+                return;
+            }
+            reads = List.copyOf(this.pendingReads);
+            writes = List.copyOf(this.pendingWriteFutures);
+            write = this.pendingWrite;
+            this.pendingReads.clear();
+            this.pendingWriteFutures.clear();
+            this.pendingWrite = null;
+        }
+
+        String value;
+        try {
+            value = write != null ? write : this.reader.get();
+            if (write != null) {
+                this.writer.accept(write);
+            }
+        } catch (Throwable t) {
+            for (CompletableFuture<?> future : reads) {
+                future.completeExceptionally(t);
+            }
+            for (CompletableFuture<?> future : writes) {
+                future.completeExceptionally(t);
+            }
+            return;
+        }
+
+        synchronized (this) {
+            if (write == null) {
+                this.fetches++;
+                if (this.hasValue && !Objects.equals(this.cached, value)) {
+                    this.changes++;
+                }
+            }
+            this.cached = value;
+            this.cacheValid = true;
+            this.hasValue = true;
+            this.cacheTime = System.nanoTime();
+        }
+        for (CompletableFuture<String> future : reads) {
+            future.complete(value);
+        }
+        for (CompletableFuture<Void> future : writes) {
+            future.complete(null);
+        }
+    }
+
+    /**
+     * Marks the cached value as out of date. Called when a window gains focus.
+     */
+    synchronized void invalidate() {
+        this.cacheValid = false;
+    }
+
+    private boolean isCacheValid(long now) {
+        return this.cacheValid && (this.maxAge == 0 || now - this.cacheTime < this.maxAge);
+    }
+
+    /**
+     * Sets how long a cached value can be used before the clipboard is read again.
+     *
+     * @param maxAge The maximum age of the cache in seconds or <code>0</code> to only refresh when a window gains focus, which can keep returning stale text indefinitely
+     */
+    public synchronized void setMaxAge(double maxAge) {
+        this.maxAge = (long) (Math.max(0, maxAge) * 1_000_000_000L);
+    }
+
+    /**
+     * @return The maximum age of the cache in seconds or <code>0</code> if it is only refreshed when a window gains focus
+     */
+    public synchronized double getMaxAge() {
+        return this.maxAge / 1_000_000_000.0;
+    }
+
+    /**
+     * @return The number of times the system clipboard has been read
+     */
+    public synchronized long getFetchCount() {
+        return this.fetches;
+    }
+
+    /**
+     * @return The number of times the clipboard was found to contain a different value than the cache
+     */
+    public synchronized long getChangeCount() {
+        return this.changes;
+    }
+
+    /**
+     * @return The number of writes that were replaced by a later write before reaching the system
+     */
+    public synchronized long getCoalescedWriteCount() {
+        return this.coalescedWrites;
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.ocelot.window;
+
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * <p>A mouse cursor owned by a {@link CursorCache}. Standard cursors are shared for the lifetime of the cache, custom cursors are shared by every caller that requests the same image.</p>
+ * <p>Custom cursors that are not set on any window can be evicted by the cache, so a cursor should be requested again instead of being stored for a long time.</p>
+ *
+ * @author Ocelot
+ * @see Window#setCursor(Cursor)
+ */
+public final class Cursor {
+
+    private final Shape shape;
+    private final int width;
+    private final int height;
+    private final int xHot;
+    private final int yHot;
+    private final ByteBuffer pixels;
+    private long handle;
+    private boolean freed;
+    int users;
+
+    Cursor(@Nullable Shape shape, int width, int height, int xHot, int yHot, @Nullable ByteBuffer pixels, long handle) {
+        this.shape = shape;
+        this.width = width;
+        this.height = height;
+        this.xHot = xHot;
+        this.yHot = yHot;
+        this.pixels = pixels;
+        this.handle = handle;
+    }
+
+    /**
+     * Destroys the native cursor and frees the image. Called on the main thread by the cache.
+     */
+    void destroy(WindowBackend backend) {
+        if (this.freed) {
+            return;
+        }
+        if (this.handle != 0L) {
+            backend.destroyCursor(this.handle);
+            this.handle = 0L;
+        }
+        if (this.pixels != null) {
+            MemoryUtil.memFree(this.pixels);
+        }
+        this.freed = true;
+    }
+
+    /**
+     * @return The GLFW id of the cursor or <code>0</code> if the system does not provide this shape or the cursor has been freed
+     */
+    public long getHandle() {
+        return this.handle;
+    }
+
+    /**
+     * @return The standard shape of this cursor or <code>null</code> if this is a custom image cursor
+     */
+    public @Nullable Shape getShape() {
+        return this.shape;
+    }
+
+    /**
+     * @return The width of the cursor image in pixels or <code>0</code> for standard cursors
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * @return The height of the cursor image in pixels or <code>0</code> for standard cursors
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * @return The x position of the hotspot in the cursor image
+     */
+    public int getXHot() {
+        return this.xHot;
+    }
+
+    /**
+     * @return The y position of the hotspot in the cursor image
+     */
+    public int getYHot() {
+        return this.yHot;
+    }
+
+    /**
+     * @return A read-only view of the RGBA pixels of the cursor image or <code>null</code> for standard cursors. The view must not be used after the cursor is freed
+     */
+    public @Nullable ByteBuffer getPixels() {
+        return this.pixels != null ? this.pixels.asReadOnlyBuffer() : null;
+    }
+
+    /**
+     * @return The number of bytes of native memory used by the cursor image
+     */
+    public long getSize() {
+        return this.pixels != null ? this.pixels.capacity() : 0;
+    }
+
+    /**
+     * @return Whether this cursor is currently set on any window
+     */
+    public boolean isInUse() {
+        return this.users > 0;
+    }
+
+    /**
+     * @return Whether this cursor has been evicted or its cache has been freed
+     */
+    public boolean isFreed() {
+        return this.freed;
+    }
+
+    @Override
+    public String toString() {
+        return this.shape != null ? "Cursor[" + this.shape + "]" : "Cursor[" + this.width + "x" + this.height + " @ " + this.xHot + "," + this.yHot + "]";
+    }
+
+    /**
+     * The cursor shapes provided by the system.
+     */
+    public enum Shape {
+        ARROW(GLFW_ARROW_CURSOR),
+        IBEAM(GLFW_IBEAM_CURSOR),
+        CROSSHAIR(GLFW_CROSSHAIR_CURSOR),
+        POINTING_HAND(GLFW_POINTING_HAND_CURSOR),
+        RESIZE_EW(GLFW_RESIZE_EW_CURSOR),
+        RESIZE_NS(GLFW_RESIZE_NS_CURSOR),
+        RESIZE_NWSE(GLFW_RESIZE_NWSE_CURSOR),
+        RESIZE_NESW(GLFW_RESIZE_NESW_CURSOR),
+        RESIZE_ALL(GLFW_RESIZE_ALL_CURSOR),
+        NOT_ALLOWED(GLFW_NOT_ALLOWED_CURSOR);
+
+        private final int id;
+
+        Shape(int id) {
+            this.id = id;
+        }
+
+        /**
+         * @return The GLFW id of this shape
+         */
+        public int getId() {
+            return this.id;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package io.github.ocelot.window;
+
+import org.lwjgl.glfw.GLFWImage;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+import org.lwjgl.system.NativeResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>Shares cursors between every window of a {@link WindowManager}. Standard cursors are created once and kept until the manager is freed.</p>
+ * <p>Custom cursors are keyed by the contents of their image, so requesting the same image again returns the existing cursor instead of creating a new one. Their pixels are copied off-heap and the least recently used cursors that are not set on any window are evicted once the images exceed the {@link #setMaxMemory(long) memory budget}.</p>
+ * <p>Creating cursors requires GLFW, so this must only be used from the main thread.</p>
+ *
+ * @author Ocelot
+ * @see WindowManager#getCursorCache()
+ */
+public final class CursorCache implements NativeResource {
+
+    /**
+     * The default number of bytes custom cursor images can use before they are evicted.
+     */
+    public static final long DEFAULT_MAX_MEMORY = 4L * 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CursorCache.class);
+
+    private final WindowBackend backend;
+    private final Cursor[] standard;
+    private final Map<Key, Cursor> custom;
+    private long maxMemory;
+    private long memoryUsage;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    CursorCache(WindowBackend backend) {
+        this.backend = backend;
+        this.standard = new Cursor[Cursor.Shape.values().length];
+        this.custom = new LinkedHashMap<>(16, 0.75F, true);
+        this.maxMemory = DEFAULT_MAX_MEMORY;
+    }
+
+    /**
+     * Retrieves the shared cursor for a standard shape, creating it the first time it is requested. The cursor has no handle if the system does not provide that shape, which shows the default arrow instead.
+     *
+     * @param shape The shape of the cursor
+     * @return The cursor for that shape
+     */
+    public Cursor getStandard(Cursor.Shape shape) {
+        Cursor cursor = this.standard[shape.ordinal()];
+        if (cursor != null) {
+            this.hitCount++;
+            return cursor;
+        }
+
+        this.missCount++;
+        long handle = this.backend.createStandardCursor(shape.getId());
+        if (handle == 0L) {
+            LOGGER.warn("Standard cursor {} is not supported on this platform", shape);
+        }
+        cursor = new Cursor(shape, 0, 0, 0, 0, null, handle);
+        this.standard[shape.ordinal()] = cursor;
+        return cursor;
+    }
+
+    /**
+     * Retrieves the cursor for an image, creating it if no cursor has been created from identical pixels and hotspot. The pixels are copied, so the buffer can be reused immediately.
+     *
+     * @param width  The width of the image in pixels
+     * @param height The height of the image in pixels
+     * @param xHot   The x position of the hotspot in the image
+     * @param yHot   The y position of the hotspot in the image
+     * @param pixels The RGBA pixels of the image, starting at the buffer position. This can be a heap or direct buffer
+     * @return The cursor for that image
+     * @throws IllegalArgumentException If the buffer does not contain enough pixels
+     * @throws IllegalStateException    If the system fails to create the cursor
+     */
+    public Cursor get(int width, int height, int xHot, int yHot, ByteBuffer pixels) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid cursor size: " + width + "x" + height);
+        }
+        int size = width * height * 4;
+        if (pixels.remaining() < size) {
+            throw new IllegalArgumentException("Expected " + size + " bytes of pixels, got " + pixels.remaining());
+        }
+
+        Cursor cursor = this.custom.get(new Key(width, height, xHot, yHot, pixels.slice(pixels.position(), size)));
+        if (cursor != null) {
+            this.hitCount++;
+            return cursor;
+        }
+
+        this.missCount++;
+        this.trim(this.maxMemory - size);
+
+        ByteBuffer copy = MemoryUtil.memAlloc(size);
+        copy.put(0, pixels, pixels.position(), size);
+        long handle;
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            handle = this.backend.createCursor(GLFWImage.malloc(stack).set(width, height, copy), xHot, yHot);
+        }
+        if (handle == 0L) {
+            MemoryUtil.memFree(copy);
+            throw new IllegalStateException("Failed to create " + width + "x" + height + " cursor");
+        }
+
+        cursor = new Cursor(null, width, height, xHot, yHot, copy, handle);
+        this.custom.put(new Key(width, height, xHot, yHot, copy), cursor);
+        this.memoryUsage += size;
+        return cursor;
+    }
+
+    private void trim(long maxMemory) {
+        Iterator<Cursor> iterator = this.custom.values().iterator();
+        while (this.memoryUsage > maxMemory && iterator.hasNext()) {
+            Cursor cursor = iterator.next();
+            if (cursor.isInUse()) {
+                continue;
+            }
+
+            iterator.remove();
+            this.release(cursor);
+            this.evictionCount++;
+        }
+    }
+
+    private void release(Cursor cursor) {
+        this.memoryUsage -= cursor.getSize();
+        cursor.destroy(this.backend);
+    }
+
+    /**
+     * Sets the number of bytes custom cursor images can use. The least recently used cursors that are not set on any window are evicted immediately if the images already use more than this.
+     *
+     * @param maxMemory The maximum number of bytes
+     */
+    public void setMaxMemory(long maxMemory) {
+        if (maxMemory < 0) {
+            throw new IllegalArgumentException("Maximum memory must be positive: " + maxMemory);
+        }
+        this.maxMemory = maxMemory;
+        this.trim(maxMemory);
+    }
+
+    /**
+     * @return The number of bytes custom cursor images can use before they are evicted
+     */
+    public long getMaxMemory() {
+        return this.maxMemory;
+    }
+
+    /**
+     * @return The number of bytes of native memory currently used by custom cursor images
+     */
+    public long getMemoryUsage() {
+        return this.memoryUsage;
+    }
+
+    /**
+     * @return The number of custom cursors currently cached
+     */
+    public int size() {
+        return this.custom.size();
+    }
+
+    /**
+     * @return The number of requests that returned an existing cursor
+     */
+    public long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * @return The number of requests that created a new cursor
+     */
+    public long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * @return The number of custom cursors evicted to stay within the memory budget
+     */
+    public long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    @Override
+    public void free() {
+        for (int i = 0; i < this.standard.length; i++) {
+            if (this.standard[i] != null) {
+                this.standard[i].destroy(this.backend);
+                this.standard[i] = null;
+            }
+        }
+        for (Cursor cursor : this.custom.values()) {
+            this.release(cursor);
+        }
+        this.custom.clear();
+    }
+
+    /**
+     * Compares cursor images by content. {@link ByteBuffer#equals(Object)} and {@link ByteBuffer#hashCode()} only consider the remaining pixels.
+     */
+    private record Key(int width, int height, int xHot, int yHot, ByteBuffer pixels) {
+    }
+}
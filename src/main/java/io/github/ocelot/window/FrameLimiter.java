@@ -0,0 +1,232 @@
+package io.github.ocelot.window;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+/**
+ * <p>Paces frames to a target frame rate using the timer of a {@link WindowBackend}.</p>
+ * <p>Sleeping alone is too coarse to hit deadlines accurately and spinning alone wastes an entire core, so this sleeps until shortly before the deadline and spins for the rest. The amount the OS oversleeps by is measured continuously and the sleep is shortened to match.</p>
+ *
+ * @author Ocelot
+ */
+public final class FrameLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long MIN_SPIN_NANOS = 50_000L;
+    private static final long INITIAL_OVERSLEEP_NANOS = 1_000_000L;
+
+    private final WindowBackend backend;
+    private final LongConsumer sleeper;
+    private final long frequency;
+    private double targetFrameRate;
+    private long period;
+    private long deadline;
+    private long oversleep;
+
+    private long frames;
+    private long missedDeadlines;
+    private long lastLateness;
+    private long maxLateness;
+    private long totalLateness;
+
+    public FrameLimiter() {
+        this(WindowBackend.GLFW);
+    }
+
+    /**
+     * @param backend The backend to read the timer from
+     */
+    public FrameLimiter(WindowBackend backend) {
+        this(backend, LockSupport::parkNanos);
+    }
+
+    /**
+     * @param backend The backend to read the timer from
+     * @param sleeper Sleeps for the specified number of nanoseconds. Tests use this to advance a simulated timer instead of sleeping
+     */
+    @ApiStatus.Internal
+    FrameLimiter(WindowBackend backend, LongConsumer sleeper) {
+        this.backend = backend;
+        this.sleeper = sleeper;
+        this.frequency = backend.getTimerFrequency();
+        this.oversleep = this.toTicks(INITIAL_OVERSLEEP_NANOS);
+    }
+
+    /**
+     * Waits until the next frame should start. Does nothing if there is no target frame rate.
+     */
+    public void sync() {
+        if (this.period <= 0) {
+            return;
+        }
+        this.waitUntil(this.deadline);
+        this.frameCompleted(this.backend.getTimerValue());
+    }
+
+    /**
+     * @param now The current GLFW timer value
+     * @return Whether the deadline for the next frame has been reached
+     */
+    boolean isDue(long now) {
+        return this.period <= 0 || now >= this.deadline;
+    }
+
+    /**
+     * @return The timer value the next frame is due at or {@link Long#MAX_VALUE} if there is no target frame rate
+     */
+    long getDeadline() {
+        return this.period > 0 ? this.deadline : Long.MAX_VALUE;
+    }
+
+    /**
+     * Records the lateness of a frame presented at the specified time and moves to the next deadline.
+     *
+     * @param now The timer value the frame was presented at
+     */
+    void frameCompleted(long now) {
+        if (this.period <= 0) {
+            return;
+        }
+
+        long lateness = Math.max(0, now - this.deadline);
+        this.frames++;
+        this.lastLateness = lateness;
+        this.totalLateness += lateness;
+        if (lateness > this.maxLateness) {
+            this.maxLateness = lateness;
+        }
+
+        this.deadline += this.period;
+        if (now >= this.deadline) {
+            // More than a whole frame behind, so start over from now instead of rushing frames to catch up
+            this.missedDeadlines++;
+            this.deadline = now + this.period;
+        }
+    }
+
+    /**
+     * Sleeps and then spins until the GLFW timer reaches the specified value.
+     *
+     * @param deadline The timer value to wait for
+     */
+    void waitUntil(long deadline) {
+        long spin = this.toTicks(MIN_SPIN_NANOS);
+        long now = this.backend.getTimerValue();
+        boolean parked = false;
+        while (deadline - now > this.oversleep + spin) {
+            long requested = deadline - now - this.oversleep - spin;
+            this.sleeper.accept(this.toNanos(requested));
+            long woke = this.backend.getTimerValue();
+            parked = true;
+
+            // Move the estimate slowly toward the measured value, but grow it straight away so a spike is not repeated
+            long measured = Math.max(0, woke - now - requested);
+            this.oversleep = Math.min(this.getMaxOversleep(), measured > this.oversleep ? measured : this.oversleep - (this.oversleep - measured) / 8);
+            now = woke;
+        }
+        if (!parked) {
+            // The estimate only shrinks when parking, so keep decaying it or a single spike could stop this from ever parking again
+            this.oversleep -= this.oversleep / 8;
+        }
+        while (this.backend.getTimerValue() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private long getMaxOversleep() {
+        // A pause such as a GC or a suspended laptop is not a measure of the OS, so never let it take more than half a frame
+        return this.period > 0 ? this.period / 2 : Long.MAX_VALUE;
+    }
+
+    /**
+     * Resets the deadline and lateness statistics.
+     */
+    public void resetStatistics() {
+        this.frames = 0;
+        this.missedDeadlines = 0;
+        this.lastLateness = 0;
+        this.maxLateness = 0;
+        this.totalLateness = 0;
+    }
+
+    /**
+     * Sets the maximum number of frames per second.
+     *
+     * @param targetFrameRate The target frame rate or <code>0</code> for no limit
+     */
+    public void setTargetFrameRate(double targetFrameRate) {
+        if (targetFrameRate < 0 || Double.isNaN(targetFrameRate)) {
+            throw new IllegalArgumentException("Invalid frame rate: " + targetFrameRate);
+        }
+        this.targetFrameRate = targetFrameRate;
+        this.period = targetFrameRate > 0 ? Math.max(1, Math.round(this.frequency / targetFrameRate)) : 0;
+        this.deadline = this.backend.getTimerValue() + this.period;
+        this.oversleep = Math.min(this.oversleep, this.getMaxOversleep());
+    }
+
+    /**
+     * @return The maximum number of frames per second or <code>0</code> for no limit
+     */
+    public double getTargetFrameRate() {
+        return this.targetFrameRate;
+    }
+
+    /**
+     * @return Whether a target frame rate is set
+     */
+    public boolean isEnabled() {
+        return this.period > 0;
+    }
+
+    /**
+     * @return The number of frames paced since the statistics were last reset
+     */
+    public long getFrameCount() {
+        return this.frames;
+    }
+
+    /**
+     * @return The number of frames that took so long that the following deadline was also missed
+     */
+    public long getMissedDeadlines() {
+        return this.missedDeadlines;
+    }
+
+    /**
+     * @return How far after its deadline the last frame started in nanoseconds
+     */
+    public long getLastLatenessNanos() {
+        return this.toNanos(this.lastLateness);
+    }
+
+    /**
+     * @return The furthest after its deadline any frame started in nanoseconds
+     */
+    public long getMaxLatenessNanos() {
+        return this.toNanos(this.maxLateness);
+    }
+
+    /**
+     * @return The average time after their deadline frames started in nanoseconds
+     */
+    public long getAverageLatenessNanos() {
+        return this.frames > 0 ? this.toNanos(this.totalLateness / this.frames) : 0;
+    }
+
+    /**
+     * @return The current estimate of how long the OS oversleeps by in nanoseconds
+     */
+    public long getOversleepNanos() {
+        return this.toNanos(this.oversleep);
+    }
+
+    private long toTicks(long nanos) {
+        return this.frequency == NANOS_PER_SECOND ? nanos : (long) (nanos * (this.frequency / (double) NANOS_PER_SECOND));
+    }
+
+    private long toNanos(long ticks) {
+        return this.frequency == NANOS_PER_SECOND ? ticks : (long) (ticks * (NANOS_PER_SECOND / (double) this.frequency));
+    }
+}
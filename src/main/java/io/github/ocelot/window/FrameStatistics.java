@@ -0,0 +1,152 @@
+package io.github.ocelot.window;
+
+/**
+ * <p>Tracks how long each frame of a window takes and where the time goes. Time spent polling events, dispatching events to listeners, and swapping buffers is accumulated until the window is presented, at which point it is recorded as one frame.</p>
+ * <p>All values are kept in fixed size histograms, so recording never allocates. Events are polled on the main thread while a window with a render thread is presented on that thread, so every update is made while holding the lock of this object. The methods of this class are safe to call from any thread, but the histograms returned by the getters should be read while synchronized on this object if the window is still being updated.</p>
+ *
+ * @author Ocelot
+ * @see WindowManager#getWindows()
+ */
+public final class FrameStatistics {
+
+    private final TimeHistogram frameTimes;
+    private final TimeHistogram pollTimes;
+    private final TimeHistogram dispatchTimes;
+    private final TimeHistogram swapTimes;
+    private final TimeHistogram latchSavings;
+    private long frameBudget;
+    private long overBudget;
+    private long lastPresent;
+    private long pendingPoll;
+    private long pendingDispatch;
+
+    FrameStatistics() {
+        this.frameTimes = new TimeHistogram();
+        this.pollTimes = new TimeHistogram();
+        this.dispatchTimes = new TimeHistogram();
+        this.swapTimes = new TimeHistogram();
+        this.latchSavings = new TimeHistogram();
+    }
+
+    synchronized void addPollTime(long nanos) {
+        this.pendingPoll += nanos;
+    }
+
+    synchronized void addDispatchTime(long nanos) {
+        this.pendingDispatch += nanos;
+    }
+
+    synchronized void addLatchSaving(long nanos) {
+        this.latchSavings.record(nanos);
+    }
+
+    /**
+     * Records the frame that just finished presenting.
+     *
+     * @param now       The {@link System#nanoTime()} the frame finished presenting at
+     * @param swapNanos How long swapping buffers took
+     */
+    synchronized void framePresented(long now, long swapNanos) {
+        if (this.lastPresent != 0) {
+            long frameTime = now - this.lastPresent;
+            this.frameTimes.record(frameTime);
+            if (this.frameBudget > 0 && frameTime > this.frameBudget) {
+                this.overBudget++;
+            }
+        }
+        this.lastPresent = now;
+        this.pollTimes.record(this.pendingPoll);
+        this.dispatchTimes.record(this.pendingDispatch);
+        this.swapTimes.record(swapNanos);
+        this.pendingPoll = 0;
+        this.pendingDispatch = 0;
+    }
+
+    /**
+     * Clears all statistics, starting a new measurement window.
+     */
+    public synchronized void reset() {
+        this.frameTimes.reset();
+        this.pollTimes.reset();
+        this.dispatchTimes.reset();
+        this.swapTimes.reset();
+        this.latchSavings.reset();
+        this.overBudget = 0;
+        this.lastPresent = 0;
+        this.pendingPoll = 0;
+        this.pendingDispatch = 0;
+    }
+
+    /**
+     * Sets the longest a frame can take before it is counted as over budget.
+     *
+     * @param frameBudget The budget in nanoseconds or <code>0</code> to disable
+     */
+    public synchronized void setFrameBudgetNanos(long frameBudget) {
+        this.frameBudget = Math.max(0, frameBudget);
+    }
+
+    /**
+     * @return The longest a frame can take before it is counted as over budget in nanoseconds
+     */
+    public synchronized long getFrameBudgetNanos() {
+        return this.frameBudget;
+    }
+
+    /**
+     * @return The number of frames that took longer than the frame budget
+     */
+    public synchronized long getOverBudgetCount() {
+        return this.overBudget;
+    }
+
+    /**
+     * @return The number of frames recorded
+     */
+    public synchronized long getFrameCount() {
+        return this.frameTimes.getCount();
+    }
+
+    /**
+     * @param percentile The percentile to get, for example <code>50</code>, <code>99</code>, or <code>99.9</code>
+     * @return The frame time at that percentile in nanoseconds
+     */
+    public synchronized long getFrameTimePercentile(double percentile) {
+        return this.frameTimes.getPercentile(percentile);
+    }
+
+    /**
+     * @return The time between presenting each frame
+     */
+    public TimeHistogram getFrameTimes() {
+        return this.frameTimes;
+    }
+
+    /**
+     * @return The time spent in <code>glfwPollEvents</code> each frame. This includes dispatching events unless queued mode is enabled
+     */
+    public TimeHistogram getPollTimes() {
+        return this.pollTimes;
+    }
+
+    /**
+     * @return The time spent calling listeners each frame
+     */
+    public TimeHistogram getDispatchTimes() {
+        return this.dispatchTimes;
+    }
+
+    /**
+     * @return The time spent swapping buffers each frame
+     */
+    public TimeHistogram getSwapTimes() {
+        return this.swapTimes;
+    }
+
+    /**
+     * @return How much newer the input picked up by each {@link WindowManager#latchInput() late latch} was than the input polled at the start of the frame. Latches that received no new input are not recorded
+     */
+    public TimeHistogram getLatchSavings() {
+        return this.latchSavings;
+    }
+}
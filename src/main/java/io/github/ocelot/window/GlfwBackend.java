@@ -0,0 +1,308 @@
+package io.github.ocelot.window;
+
+import io.github.ocelot.window.input.GamepadBackend;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.PointerBuffer;
+import org.lwjgl.glfw.GLFWErrorCallback;
+import org.lwjgl.glfw.GLFWImage;
+import org.lwjgl.glfw.GLFWJoystickCallback;
+import org.lwjgl.glfw.GLFWMonitorCallback;
+import org.lwjgl.glfw.GLFWVidMode;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.IntBuffer;
+
+import static org.lwjgl.glfw.Callbacks.glfwFreeCallbacks;
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * Forwards every call straight to GLFW.
+ *
+ * @author Ocelot
+ */
+final class GlfwBackend implements WindowBackend {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GlfwBackend.class);
+
+    @Override
+    public boolean init() {
+        GLFWErrorCallback old = glfwSetErrorCallback((error, description) -> LOGGER.error(String.format("GLFW error during init: [0x%X]%s", error, MemoryUtil.memUTF8(description))));
+        if (!glfwInit()) {
+            glfwTerminate();
+            return false;
+        }
+        GLFWErrorCallback o = glfwSetErrorCallback(old);
+        if (o != null) {
+            o.free();
+        }
+        return true;
+    }
+
+    @Override
+    public void terminate() {
+        glfwTerminate();
+    }
+
+    @Override
+    public @Nullable String getError() {
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            PointerBuffer pointer = stack.mallocPointer(1);
+            int error = glfwGetError(pointer);
+            if (error == GLFW_NO_ERROR) {
+                return null;
+            }
+            return "[0x%X] %s".formatted(error, MemoryUtil.memUTF8(pointer.get(0)));
+        }
+    }
+
+    @Override
+    public int getPlatform() {
+        return glfwGetPlatform();
+    }
+
+    @Override
+    public GamepadBackend getGamepadBackend() {
+        return GamepadBackend.GLFW;
+    }
+
+    @Override
+    public void setMonitorCallback(@Nullable MonitorCallback callback) {
+        GLFWMonitorCallback old = glfwSetMonitorCallback(callback != null ? callback::invoke : null);
+        if (old != null) {
+            old.free();
+        }
+    }
+
+    @Override
+    public void setJoystickCallback(@Nullable JoystickCallback callback) {
+        GLFWJoystickCallback old = glfwSetJoystickCallback(callback != null ? callback::invoke : null);
+        if (old != null) {
+            old.free();
+        }
+    }
+
+    @Override
+    public void pollEvents() {
+        glfwPollEvents();
+    }
+
+    @Override
+    public void waitEvents() {
+        glfwWaitEvents();
+    }
+
+    @Override
+    public void waitEventsTimeout(double timeout) {
+        glfwWaitEventsTimeout(timeout);
+    }
+
+    @Override
+    public void postEmptyEvent() {
+        glfwPostEmptyEvent();
+    }
+
+    @Override
+    public long getTimerValue() {
+        return glfwGetTimerValue();
+    }
+
+    @Override
+    public long getTimerFrequency() {
+        return glfwGetTimerFrequency();
+    }
+
+    @Override
+    public long[] getMonitors() {
+        PointerBuffer monitors = glfwGetMonitors();
+        if (monitors == null) {
+            return new long[0];
+        }
+        long[] handles = new long[monitors.limit()];
+        monitors.get(handles);
+        return handles;
+    }
+
+    @Override
+    public long getPrimaryMonitor() {
+        return glfwGetPrimaryMonitor();
+    }
+
+    @Override
+    public void getMonitorPos(long monitor, IntBuffer x, IntBuffer y) {
+        glfwGetMonitorPos(monitor, x, y);
+    }
+
+    @Override
+    public @Nullable VideoMode getVideoMode(long monitor) {
+        GLFWVidMode mode = glfwGetVideoMode(monitor);
+        return mode != null ? VideoMode.of(mode) : null;
+    }
+
+    @Override
+    public VideoMode[] getVideoModes(long monitor) {
+        GLFWVidMode.Buffer buffer = glfwGetVideoModes(monitor);
+        if (buffer == null) {
+            return new VideoMode[0];
+        }
+        VideoMode[] modes = new VideoMode[buffer.limit()];
+        for (int i = 0; i < modes.length; i++) {
+            modes[i] = VideoMode.of(buffer.position(i));
+        }
+        return modes;
+    }
+
+    @Override
+    public void defaultWindowHints() {
+        glfwDefaultWindowHints();
+    }
+
+    @Override
+    public void windowHint(int hint, int value) {
+        glfwWindowHint(hint, value);
+    }
+
+    @Override
+    public long createWindow(int width, int height, CharSequence title, long monitor, long share) {
+        return glfwCreateWindow(width, height, title, monitor, share);
+    }
+
+    @Override
+    public void setCallbacks(long window, Window target) {
+        glfwSetWindowCloseCallback(window, target::onClose);
+        glfwSetWindowPosCallback(window, target::onMove);
+        glfwSetWindowSizeCallback(window, target::onResize);
+        glfwSetFramebufferSizeCallback(window, target::onFramebufferResize);
+        glfwSetWindowFocusCallback(window, target::onFocus);
+        glfwSetDropCallback(window, target::onDrop);
+        glfwSetCharModsCallback(window, target::onChar);
+        glfwSetKeyCallback(window, target::onKey);
+        glfwSetCursorPosCallback(window, target::onCursorPos);
+        glfwSetCursorEnterCallback(window, target::onCursorEnter);
+        glfwSetMouseButtonCallback(window, target::onMouseButton);
+        glfwSetScrollCallback(window, target::onScroll);
+    }
+
+    @Override
+    public void destroyWindow(long window) {
+        glfwFreeCallbacks(window);
+        glfwDestroyWindow(window);
+    }
+
+    @Override
+    public int getWindowAttrib(long window, int attrib) {
+        return glfwGetWindowAttrib(window, attrib);
+    }
+
+    @Override
+    public void getFramebufferSize(long window, IntBuffer width, IntBuffer height) {
+        glfwGetFramebufferSize(window, width, height);
+    }
+
+    @Override
+    public void requestWindowAttention(long window) {
+        glfwRequestWindowAttention(window);
+    }
+
+    @Override
+    public void setWindowTitle(long window, CharSequence title) {
+        glfwSetWindowTitle(window, title);
+    }
+
+    @Override
+    public void setWindowPos(long window, int x, int y) {
+        glfwSetWindowPos(window, x, y);
+    }
+
+    @Override
+    public void setWindowSize(long window, int width, int height) {
+        glfwSetWindowSize(window, width, height);
+    }
+
+    @Override
+    public void setWindowShouldClose(long window, boolean value) {
+        glfwSetWindowShouldClose(window, value);
+    }
+
+    @Override
+    public long getWindowMonitor(long window) {
+        return glfwGetWindowMonitor(window);
+    }
+
+    @Override
+    public void setWindowMonitor(long window, long monitor, int x, int y, int width, int height, int refreshRate) {
+        glfwSetWindowMonitor(window, monitor, x, y, width, height, refreshRate);
+    }
+
+    @Override
+    public void setWindowIcon(long window, GLFWImage.Buffer images) {
+        glfwSetWindowIcon(window, images);
+    }
+
+    @Override
+    public long getCurrentContext() {
+        return glfwGetCurrentContext();
+    }
+
+    @Override
+    public void makeContextCurrent(long window) {
+        glfwMakeContextCurrent(window);
+    }
+
+    @Override
+    public void swapInterval(int interval) {
+        glfwSwapInterval(interval);
+    }
+
+    @Override
+    public void swapBuffers(long window) {
+        glfwSwapBuffers(window);
+    }
+
+    @Override
+    public void setInputMode(long window, int mode, int value) {
+        glfwSetInputMode(window, mode, value);
+    }
+
+    @Override
+    public boolean rawMouseMotionSupported() {
+        return glfwRawMouseMotionSupported();
+    }
+
+    @Override
+    public void setCursorPos(long window, double x, double y) {
+        glfwSetCursorPos(window, x, y);
+    }
+
+    @Override
+    public long createCursor(GLFWImage image, int xHot, int yHot) {
+        return glfwCreateCursor(image, xHot, yHot);
+    }
+
+    @Override
+    public long createStandardCursor(int shape) {
+        return glfwCreateStandardCursor(shape);
+    }
+
+    @Override
+    public void destroyCursor(long cursor) {
+        glfwDestroyCursor(cursor);
+    }
+
+    @Override
+    public void setCursor(long window, long cursor) {
+        glfwSetCursor(window, cursor);
+    }
+
+    @Override
+    public @Nullable String getClipboardString(long window) {
+        return glfwGetClipboardString(window);
+    }
+
+    @Override
+    public void setClipboardString(long window, CharSequence text) {
+        glfwSetClipboardString(window, text);
+    }
+}
@@ -0,0 +1,837 @@
+package io.github.ocelot.window;
+
+import io.github.ocelot.window.input.GamepadBackend;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.PointerBuffer;
+import org.lwjgl.glfw.GLFWGamepadState;
+import org.lwjgl.glfw.GLFWImage;
+import org.lwjgl.system.MemoryStack;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * <p>A {@link WindowBackend} that simulates windows, monitors, cursors, and the timer in memory. Nothing is shown and no display is needed, so this can run on headless machines.</p>
+ * <p>Input is injected with the <code>input</code> methods, which are safe to call from any thread. Like real input, injected events are queued and only sent to windows when events are polled. Changes made by the application, such as {@link Window#setPosition(int, int) moving} a window, are applied immediately and reported the next time events are polled, like most platforms.</p>
+ * <p>Windows created with a client API report a context, but no OpenGL or Vulkan functions are available. Buffer swaps are only counted.</p>
+ *
+ * @author Ocelot
+ */
+public final class HeadlessBackend implements WindowBackend {
+
+    /**
+     * The current video mode of the monitor connected by default.
+     */
+    public static final VideoMode DEFAULT_MODE = new VideoMode(1920, 1080, 8, 8, 8, 60).intern();
+
+    private static final int KEY = 0;
+    private static final int CHAR = 1;
+    private static final int CURSOR_POS = 2;
+    private static final int CURSOR_ENTER = 3;
+    private static final int MOUSE_BUTTON = 4;
+    private static final int SCROLL = 5;
+    private static final int FOCUS = 6;
+    private static final int CLOSE = 7;
+    private static final int DROP = 8;
+    private static final int WINDOW_POS = 9;
+    private static final int WINDOW_SIZE = 10;
+    private static final int MONITOR = 11;
+
+    private static final GamepadBackend NO_GAMEPADS = new GamepadBackend() {
+        @Override
+        public boolean isPresent(int jid) {
+            return false;
+        }
+
+        @Override
+        public boolean isGamepad(int jid) {
+            return false;
+        }
+
+        @Override
+        public @Nullable String getName(int jid) {
+            return null;
+        }
+
+        @Override
+        public boolean getState(int jid, GLFWGamepadState state) {
+            return false;
+        }
+    };
+
+    private final Object lock;
+    private final List<HeadlessMonitor> monitors;
+    private final List<HeadlessWindow> windows;
+    private final Map<Integer, Integer> hints;
+    private final ThreadLocal<long[]> context;
+    private final long start;
+    private final AtomicLong timeOffset;
+    private EventBuffer pending;
+    private EventBuffer delivering;
+    private boolean woken;
+    private long nextMonitor;
+    private long nextCursor;
+    private int cursorCount;
+    private long focusedWindow;
+    private volatile String clipboard;
+    private MonitorCallback monitorCallback;
+
+    /**
+     * Creates a backend with one {@link #DEFAULT_MODE 1920x1080} monitor connected.
+     */
+    public HeadlessBackend() {
+        this.lock = new Object();
+        this.monitors = new ArrayList<>();
+        this.windows = new ArrayList<>();
+        this.hints = new HashMap<>();
+        this.context = ThreadLocal.withInitial(() -> new long[1]);
+        this.start = System.nanoTime();
+        this.timeOffset = new AtomicLong();
+        this.pending = new EventBuffer();
+        this.delivering = new EventBuffer();
+        this.nextMonitor = 1;
+        this.nextCursor = 1;
+        this.monitors.add(new HeadlessMonitor(this.nextMonitor++, 0, 0, new VideoMode[]{new VideoMode(1280, 720, 8, 8, 8, 60).intern(), DEFAULT_MODE, new VideoMode(1920, 1080, 8, 8, 8, 144).intern()}, DEFAULT_MODE));
+        this.defaultWindowHints();
+    }
+
+    /**
+     * Connects a new monitor. Monitors must be connected from the main thread and the connection is reported the next time events are polled.
+     *
+     * @param x       The absolute x position of the monitor
+     * @param y       The absolute y position of the monitor
+     * @param current The current video mode of the monitor
+     * @param modes   The other video modes the monitor supports
+     * @return The handle of the new monitor
+     */
+    public long connectMonitor(int x, int y, VideoMode current, VideoMode... modes) {
+        VideoMode[] all = Arrays.copyOf(modes, modes.length + 1);
+        all[modes.length] = current.intern();
+        Arrays.sort(all, (a, b) -> a.width() * a.height() != b.width() * b.height() ? Integer.compare(a.width() * a.height(), b.width() * b.height()) : Integer.compare(a.refreshRate(), b.refreshRate()));
+        HeadlessMonitor monitor = new HeadlessMonitor(this.nextMonitor++, x, y, all, current.intern());
+        this.monitors.add(monitor);
+        this.queue(MONITOR, monitor.handle, GLFW_CONNECTED, 0, 0, 0, 0, 0, null);
+        return monitor.handle;
+    }
+
+    /**
+     * Disconnects a monitor. Fullscreen windows on the monitor become windowed. Monitors must be disconnected from the main thread and the disconnection is reported the next time events are polled.
+     *
+     * @param monitor The handle of the monitor
+     */
+    public void disconnectMonitor(long monitor) {
+        if (this.monitors.removeIf(m -> m.handle == monitor)) {
+            for (HeadlessWindow window : this.windows) {
+                if (window != null && window.monitor == monitor) {
+                    window.monitor = 0L;
+                }
+            }
+            this.queue(MONITOR, monitor, GLFW_DISCONNECTED, 0, 0, 0, 0, 0, null);
+        }
+    }
+
+    /**
+     * Moves the timer forward without waiting, as if time had passed. This is safe to call from any thread.
+     *
+     * @param seconds The number of seconds to skip
+     */
+    public void advanceTime(double seconds) {
+        this.timeOffset.addAndGet((long) (seconds * 1_000_000_000L));
+    }
+
+    /**
+     * Presses, repeats, or releases a key.
+     *
+     * @param window   The handle of the window
+     * @param key      The GLFW key code
+     * @param scanCode The platform scan code
+     * @param action   <code>GLFW_PRESS</code>, <code>GLFW_REPEAT</code>, or <code>GLFW_RELEASE</code>
+     * @param mods     The modifier keys held down
+     */
+    public void inputKey(long window, int key, int scanCode, int action, int mods) {
+        this.queue(KEY, window, key, scanCode, action, mods, 0, 0, null);
+    }
+
+    /**
+     * Types a character.
+     *
+     * @param window    The handle of the window
+     * @param codePoint The unicode code point typed
+     * @param mods      The modifier keys held down
+     */
+    public void inputChar(long window, int codePoint, int mods) {
+        this.queue(CHAR, window, codePoint, mods, 0, 0, 0, 0, null);
+    }
+
+    /**
+     * Moves the mouse cursor.
+     *
+     * @param window The handle of the window
+     * @param x      The new x position relative to the window
+     * @param y      The new y position relative to the window
+     */
+    public void inputCursorPos(long window, double x, double y) {
+        this.queue(CURSOR_POS, window, 0, 0, 0, 0, x, y, null);
+    }
+
+    /**
+     * Moves the mouse cursor into or out of a window.
+     *
+     * @param window  The handle of the window
+     * @param entered Whether the cursor entered or left the window
+     */
+    public void inputCursorEnter(long window, boolean entered) {
+        this.queue(CURSOR_ENTER, window, entered ? 1 : 0, 0, 0, 0, 0, 0, null);
+    }
+
+    /**
+     * Presses or releases a mouse button.
+     *
+     * @param window The handle of the window
+     * @param button The GLFW mouse button
+     * @param action <code>GLFW_PRESS</code> or <code>GLFW_RELEASE</code>
+     * @param mods   The modifier keys held down
+     */
+    public void inputMouseButton(long window, int button, int action, int mods) {
+        this.queue(MOUSE_BUTTON, window, button, action, mods, 0, 0, 0, null);
+    }
+
+    /**
+     * Scrolls the mouse wheel or touchpad.
+     *
+     * @param window The handle of the window
+     * @param dx     The horizontal scroll amount
+     * @param dy     The vertical scroll amount
+     */
+    public void inputScroll(long window, double dx, double dy) {
+        this.queue(SCROLL, window, 0, 0, 0, 0, dx, dy, null);
+    }
+
+    /**
+     * Focuses a window, unfocusing the window that previously had focus.
+     */
+    public void inputWindowFocus(long window) {
+        this.queue(FOCUS, window, 0, 0, 0, 0, 0, 0, null);
+    }
+
+    /**
+     * Requests a window to close as if the user clicked the close button.
+     */
+    public void inputWindowCloseRequest(long window) {
+        this.queue(CLOSE, window, 0, 0, 0, 0, 0, 0, null);
+    }
+
+    /**
+     * Drops files onto a window.
+     *
+     * @param window The handle of the window
+     * @param paths  The paths of the dropped files
+     */
+    public void inputDrop(long window, String... paths) {
+        this.queue(DROP, window, 0, 0, 0, 0, 0, 0, paths.clone());
+    }
+
+    /**
+     * Moves a window as if the user dragged it.
+     */
+    public void inputWindowPos(long window, int x, int y) {
+        this.queue(WINDOW_POS, window, x, y, 0, 0, 0, 0, null);
+    }
+
+    /**
+     * Resizes a window as if the user dragged its border.
+     */
+    public void inputWindowSize(long window, int width, int height) {
+        this.queue(WINDOW_SIZE, window, width, height, 0, 0, 0, 0, null);
+    }
+
+    private void queue(int type, long handle, int a, int b, int c, int d, double x, double y, @Nullable Object payload) {
+        synchronized (this.lock) {
+            this.pending.add(type, handle, a, b, c, d, x, y, payload);
+            this.lock.notifyAll();
+        }
+    }
+
+    /**
+     * @return The number of windows that have been created and not destroyed
+     */
+    public int getWindowCount() {
+        int count = 0;
+        for (HeadlessWindow window : this.windows) {
+            if (window != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return The number of cursors that have been created and not destroyed
+     */
+    public int getCursorCount() {
+        return this.cursorCount;
+    }
+
+    /**
+     * @param window The handle of the window
+     * @return The title of the window
+     */
+    public @Nullable CharSequence getWindowTitle(long window) {
+        return this.window(window).title;
+    }
+
+    /**
+     * @param window The handle of the window
+     * @return Whether the window has been asked to close
+     */
+    public boolean getWindowShouldClose(long window) {
+        return this.window(window).shouldClose;
+    }
+
+    /**
+     * @param window The handle of the window
+     * @return The handle of the cursor set on the window or <code>0</code> for the default cursor
+     */
+    public long getCursor(long window) {
+        return this.window(window).cursor;
+    }
+
+    /**
+     * @param window The handle of the window
+     * @param mode   <code>GLFW_CURSOR</code> or <code>GLFW_RAW_MOUSE_MOTION</code>
+     * @return The value of the input mode
+     */
+    public int getInputMode(long window, int mode) {
+        HeadlessWindow w = this.window(window);
+        return switch (mode) {
+            case GLFW_CURSOR -> w.cursorMode;
+            case GLFW_RAW_MOUSE_MOTION -> w.rawMouseMotion ? GLFW_TRUE : GLFW_FALSE;
+            default -> throw new IllegalArgumentException("Unsupported input mode: 0x%X".formatted(mode));
+        };
+    }
+
+    /**
+     * @param window The handle of the window
+     * @return The number of times buffers have been swapped
+     */
+    public long getSwapCount(long window) {
+        return this.window(window).swapCount;
+    }
+
+    private HeadlessWindow window(long handle) {
+        HeadlessWindow window = this.find(handle);
+        if (window == null) {
+            throw new IllegalArgumentException("Unknown window: " + handle);
+        }
+        return window;
+    }
+
+    private @Nullable HeadlessWindow find(long handle) {
+        return handle > 0 && handle <= this.windows.size() ? this.windows.get((int) handle - 1) : null;
+    }
+
+    private @Nullable HeadlessMonitor findMonitor(long handle) {
+        for (int i = 0; i < this.monitors.size(); i++) {
+            HeadlessMonitor monitor = this.monitors.get(i);
+            if (monitor.handle == handle) {
+                return monitor;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean init() {
+        return true;
+    }
+
+    @Override
+    public void terminate() {
+        for (int i = 0; i < this.windows.size(); i++) {
+            if (this.windows.get(i) != null) {
+                this.destroyWindow(i + 1);
+            }
+        }
+        synchronized (this.lock) {
+            this.pending.clear();
+        }
+        this.monitorCallback = null;
+        this.cursorCount = 0;
+    }
+
+    @Override
+    public @Nullable String getError() {
+        return null;
+    }
+
+    @Override
+    public int getPlatform() {
+        return GLFW_PLATFORM_NULL;
+    }
+
+    @Override
+    public GamepadBackend getGamepadBackend() {
+        return NO_GAMEPADS;
+    }
+
+    @Override
+    public void setMonitorCallback(@Nullable MonitorCallback callback) {
+        this.monitorCallback = callback;
+    }
+
+    @Override
+    public void setJoystickCallback(@Nullable JoystickCallback callback) {
+        // Joysticks are never connected
+    }
+
+    @Override
+    public void pollEvents() {
+        EventBuffer events;
+        synchronized (this.lock) {
+            events = this.pending;
+            this.pending = this.delivering;
+            this.delivering = events;
+            this.woken = false;
+        }
+
+        for (int i = 0; i < events.size; i++) {
+            this.deliver(events, i);
+        }
+        events.clear();
+    }
+
+    private void deliver(EventBuffer events, int i) {
+        long handle = events.handles[i];
+        int a = events.a[i];
+        int b = events.b[i];
+        if (events.types[i] == MONITOR) {
+            if (this.monitorCallback != null) {
+                this.monitorCallback.invoke(handle, a);
+            }
+            return;
+        }
+
+        HeadlessWindow window = this.find(handle);
+        if (window == null || window.target == null) {
+            return;
+        }
+        Window target = window.target;
+        switch (events.types[i]) {
+            case KEY -> target.onKey(handle, a, b, events.c[i], events.d[i]);
+            case CHAR -> target.onChar(handle, a, b);
+            case CURSOR_POS -> {
+                window.cursorX = events.x[i];
+                window.cursorY = events.y[i];
+                target.onCursorPos(handle, window.cursorX, window.cursorY);
+            }
+            case CURSOR_ENTER -> target.onCursorEnter(handle, a != 0);
+            case MOUSE_BUTTON -> target.onMouseButton(handle, a, b, events.c[i]);
+            case SCROLL -> target.onScroll(handle, events.x[i], events.y[i]);
+            case FOCUS -> this.focus(window);
+            case CLOSE -> {
+                window.shouldClose = true;
+                target.onClose(handle);
+            }
+            case DROP -> {
+                String[] paths = (String[]) events.payloads[i];
+                try (MemoryStack stack = MemoryStack.stackPush()) {
+                    PointerBuffer names = stack.mallocPointer(paths.length);
+                    for (String path : paths) {
+                        names.put(stack.UTF8(path));
+                    }
+                    target.onDrop(handle, paths.length, names.address0());
+                }
+            }
+            case WINDOW_POS -> {
+                window.x = a;
+                window.y = b;
+                target.onMove(handle, a, b);
+            }
+            case WINDOW_SIZE -> {
+                window.width = a;
+                window.height = b;
+                target.onResize(handle, a, b);
+                target.onFramebufferResize(handle, a, b);
+            }
+        }
+    }
+
+    private void focus(HeadlessWindow window) {
+        if (this.focusedWindow == window.handle) {
+            return;
+        }
+        HeadlessWindow previous = this.find(this.focusedWindow);
+        this.focusedWindow = window.handle;
+        if (previous != null && previous.target != null) {
+            previous.target.onFocus(previous.handle, false);
+        }
+        if (window.target != null) {
+            window.target.onFocus(window.handle, true);
+        }
+    }
+
+    private void move(HeadlessWindow window, int x, int y) {
+        if (window.x != x || window.y != y) {
+            window.x = x;
+            window.y = y;
+            this.queue(WINDOW_POS, window.handle, x, y, 0, 0, 0, 0, null);
+        }
+    }
+
+    private void resize(HeadlessWindow window, int width, int height) {
+        if (window.width != width || window.height != height) {
+            window.width = width;
+            window.height = height;
+            this.queue(WINDOW_SIZE, window.handle, width, height, 0, 0, 0, 0, null);
+        }
+    }
+
+    @Override
+    public void waitEvents() {
+        this.waitEventsTimeout(Double.POSITIVE_INFINITY);
+    }
+
+    @Override
+    public void waitEventsTimeout(double timeout) {
+        long deadline = timeout > 1_000_000_000.0 ? Long.MAX_VALUE : System.nanoTime() + (long) (timeout * 1_000_000_000L);
+        synchronized (this.lock) {
+            long remaining;
+            while (this.pending.size == 0 && !this.woken && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this.lock, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        this.pollEvents();
+    }
+
+    @Override
+    public void postEmptyEvent() {
+        synchronized (this.lock) {
+            this.woken = true;
+            this.lock.notifyAll();
+        }
+    }
+
+    @Override
+    public long getTimerValue() {
+        return System.nanoTime() - this.start + this.timeOffset.get();
+    }
+
+    @Override
+    public long getTimerFrequency() {
+        return 1_000_000_000L;
+    }
+
+    @Override
+    public long[] getMonitors() {
+        long[] handles = new long[this.monitors.size()];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = this.monitors.get(i).handle;
+        }
+        return handles;
+    }
+
+    @Override
+    public long getPrimaryMonitor() {
+        return this.monitors.isEmpty() ? 0L : this.monitors.get(0).handle;
+    }
+
+    @Override
+    public void getMonitorPos(long monitor, IntBuffer x, IntBuffer y) {
+        HeadlessMonitor m = this.findMonitor(monitor);
+        x.put(x.position(), m != null ? m.x : 0);
+        y.put(y.position(), m != null ? m.y : 0);
+    }
+
+    @Override
+    public @Nullable VideoMode getVideoMode(long monitor) {
+        HeadlessMonitor m = this.findMonitor(monitor);
+        return m != null ? m.currentMode : null;
+    }
+
+    @Override
+    public VideoMode[] getVideoModes(long monitor) {
+        HeadlessMonitor m = this.findMonitor(monitor);
+        return m != null ? m.modes.clone() : new VideoMode[0];
+    }
+
+    @Override
+    public void defaultWindowHints() {
+        this.hints.clear();
+        this.hints.put(GLFW_CLIENT_API, GLFW_OPENGL_API);
+        this.hints.put(GLFW_FOCUSED, GLFW_TRUE);
+    }
+
+    @Override
+    public void windowHint(int hint, int value) {
+        this.hints.put(hint, value);
+    }
+
+    @Override
+    public long createWindow(int width, int height, CharSequence title, long monitor, long share) {
+        HeadlessWindow window = new HeadlessWindow(this.windows.size() + 1L);
+        window.title = title;
+        window.width = width;
+        window.height = height;
+        window.clientApi = this.hints.get(GLFW_CLIENT_API);
+        HeadlessMonitor m = this.findMonitor(monitor);
+        if (m != null) {
+            window.monitor = m.handle;
+            window.x = m.x;
+            window.y = m.y;
+        }
+        this.windows.add(window);
+
+        if (this.hints.get(GLFW_FOCUSED) == GLFW_TRUE) {
+            this.focus(window);
+        }
+        return window.handle;
+    }
+
+    @Override
+    public void setCallbacks(long window, Window target) {
+        this.window(window).target = target;
+    }
+
+    @Override
+    public void destroyWindow(long window) {
+        this.window(window);
+        this.windows.set((int) window - 1, null);
+        if (this.focusedWindow == window) {
+            this.focusedWindow = 0L;
+        }
+        long[] context = this.context.get();
+        if (context[0] == window) {
+            context[0] = 0L;
+        }
+    }
+
+    @Override
+    public int getWindowAttrib(long window, int attrib) {
+        HeadlessWindow w = this.window(window);
+        return switch (attrib) {
+            case GLFW_CLIENT_API -> w.clientApi;
+            case GLFW_FOCUSED -> this.focusedWindow == window ? GLFW_TRUE : GLFW_FALSE;
+            default -> 0;
+        };
+    }
+
+    @Override
+    public void getFramebufferSize(long window, IntBuffer width, IntBuffer height) {
+        HeadlessWindow w = this.window(window);
+        width.put(width.position(), w.width);
+        height.put(height.position(), w.height);
+    }
+
+    @Override
+    public void requestWindowAttention(long window) {
+    }
+
+    @Override
+    public void setWindowTitle(long window, CharSequence title) {
+        this.window(window).title = title;
+    }
+
+    @Override
+    public void setWindowPos(long window, int x, int y) {
+        HeadlessWindow w = this.window(window);
+        if (w.monitor == 0L) {
+            this.move(w, x, y);
+        }
+    }
+
+    @Override
+    public void setWindowSize(long window, int width, int height) {
+        this.resize(this.window(window), width, height);
+    }
+
+    @Override
+    public void setWindowShouldClose(long window, boolean value) {
+        this.window(window).shouldClose = value;
+    }
+
+    @Override
+    public long getWindowMonitor(long window) {
+        return this.window(window).monitor;
+    }
+
+    @Override
+    public void setWindowMonitor(long window, long monitor, int x, int y, int width, int height, int refreshRate) {
+        HeadlessWindow w = this.window(window);
+        HeadlessMonitor m = this.findMonitor(monitor);
+        w.monitor = m != null ? m.handle : 0L;
+        if (m != null) {
+            this.move(w, m.x, m.y);
+        } else {
+            this.move(w, x, y);
+        }
+        this.resize(w, width, height);
+    }
+
+    @Override
+    public void setWindowIcon(long window, GLFWImage.Buffer images) {
+        this.window(window);
+    }
+
+    @Override
+    public long getCurrentContext() {
+        return this.context.get()[0];
+    }
+
+    @Override
+    public void makeContextCurrent(long window) {
+        this.context.get()[0] = window;
+    }
+
+    @Override
+    public void swapInterval(int interval) {
+    }
+
+    @Override
+    public void swapBuffers(long window) {
+        this.window(window).swapCount++;
+    }
+
+    @Override
+    public void setInputMode(long window, int mode, int value) {
+        HeadlessWindow w = this.window(window);
+        if (mode == GLFW_CURSOR) {
+            w.cursorMode = value;
+        } else if (mode == GLFW_RAW_MOUSE_MOTION) {
+            w.rawMouseMotion = value == GLFW_TRUE;
+        }
+    }
+
+    @Override
+    public boolean rawMouseMotionSupported() {
+        return true;
+    }
+
+    @Override
+    public void setCursorPos(long window, double x, double y) {
+        HeadlessWindow w = this.window(window);
+        if (w.cursorX != x || w.cursorY != y) {
+            w.cursorX = x;
+            w.cursorY = y;
+            this.queue(CURSOR_POS, window, 0, 0, 0, 0, x, y, null);
+        }
+    }
+
+    @Override
+    public long createCursor(GLFWImage image, int xHot, int yHot) {
+        this.cursorCount++;
+        return this.nextCursor++;
+    }
+
+    @Override
+    public long createStandardCursor(int shape) {
+        this.cursorCount++;
+        return this.nextCursor++;
+    }
+
+    @Override
+    public void destroyCursor(long cursor) {
+        this.cursorCount--;
+    }
+
+    @Override
+    public void setCursor(long window, long cursor) {
+        this.window(window).cursor = cursor;
+    }
+
+    @Override
+    public @Nullable String getClipboardString(long window) {
+        return this.clipboard;
+    }
+
+    @Override
+    public void setClipboardString(long window, CharSequence text) {
+        this.clipboard = text.toString();
+    }
+
+    private record HeadlessMonitor(long handle, int x, int y, VideoMode[] modes, VideoMode currentMode) {
+    }
+
+    private static final class HeadlessWindow {
+
+        private final long handle;
+        private Window target;
+        private CharSequence title;
+        private int x;
+        private int y;
+        private int width;
+        private int height;
+        private long monitor;
+        private int clientApi;
+        private boolean shouldClose;
+        private long cursor;
+        private int cursorMode = GLFW_CURSOR_NORMAL;
+        private boolean rawMouseMotion;
+        private double cursorX;
+        private double cursorY;
+        private long swapCount;
+
+        private HeadlessWindow(long handle) {
+            this.handle = handle;
+        }
+    }
+
+    /**
+     * Injected events stored in parallel arrays, so queueing input does not allocate once the arrays have grown.
+     */
+    private static final class EventBuffer {
+
+        private int size;
+        private int[] types = new int[64];
+        private long[] handles = new long[64];
+        private int[] a = new int[64];
+        private int[] b = new int[64];
+        private int[] c = new int[64];
+        private int[] d = new int[64];
+        private double[] x = new double[64];
+        private double[] y = new double[64];
+        private Object[] payloads = new Object[64];
+
+        private void add(int type, long handle, int a, int b, int c, int d, double x, double y, @Nullable Object payload) {
+            if (this.size == this.types.length) {
+                int capacity = this.size * 2;
+                this.types = Arrays.copyOf(this.types, capacity);
+                this.handles = Arrays.copyOf(this.handles, capacity);
+                this.a = Arrays.copyOf(this.a, capacity);
+                this.b = Arrays.copyOf(this.b, capacity);
+                this.c = Arrays.copyOf(this.c, capacity);
+                this.d = Arrays.copyOf(this.d, capacity);
+                this.x = Arrays.copyOf(this.x, capacity);
+                this.y = Arrays.copyOf(this.y, capacity);
+                this.payloads = Arrays.copyOf(this.payloads, capacity);
+            }
+            int i = this.size++;
+            this.types[i] = type;
+            this.handles[i] = handle;
+            this.a[i] = a;
+            this.b[i] = b;
+            this.c[i] = c;
+            this.d[i] = d;
+            this.x[i] = x;
+            this.y[i] = y;
+            this.payloads[i] = payload;
+        }
+
+        private void clear() {
+            Arrays.fill(this.payloads, 0, this.size, null);
+            this.size = 0;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.ocelot.window;
+
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.stb.STBImage;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+import org.lwjgl.system.NativeResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Decodes window icons in the background and caches them so every window shares the same off-heap pixels. Loading the same name twice returns the same future, so the images are only decoded once.</p>
+ * <p>Images are decoded with stb_image straight into native memory, so AWT is never loaded. By default, decoding runs on a single daemon thread owned by the cache instead of a shared pool, so it never competes with application tasks.</p>
+ * <p>Icons stay cached until they are {@link #evict(String) evicted} or the cache is freed with its window manager.</p>
+ *
+ * @author Ocelot
+ * @see WindowManager#getIconCache()
+ * @see Window#setIcon(CompletableFuture)
+ */
+public final class IconCache implements NativeResource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IconCache.class);
+
+    private final Map<String, CompletableFuture<WindowIcon>> icons;
+    private final ThreadPoolExecutor decoder;
+    private volatile Executor executor;
+
+    IconCache() {
+        this.icons = new ConcurrentHashMap<>();
+        // The thread stops when idle, so applications that only load icons at startup don't keep it around
+        this.decoder = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "Icon Decoder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.decoder.allowCoreThreadTimeOut(true);
+        this.executor = this.decoder;
+    }
+
+    /**
+     * Loads an icon from a set of images. Each source should be a different resolution of the same image.
+     *
+     * @param name    The unique name to cache the icon under
+     * @param sources The images to decode
+     * @return A future completed with the decoded icon. Icons that fail to load are not cached
+     */
+    public CompletableFuture<WindowIcon> load(String name, ImageSource... sources) {
+        if (sources.length == 0) {
+            throw new IllegalArgumentException("At least one image is required");
+        }
+
+        CompletableFuture<WindowIcon> existing = this.icons.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        CompletableFuture<WindowIcon> future = new CompletableFuture<>();
+        existing = this.icons.putIfAbsent(name, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        ImageSource[] copy = sources.clone();
+        try {
+            this.executor.execute(() -> {
+                try {
+                    future.complete(decode(name, copy));
+                } catch (Throwable t) {
+                    this.icons.remove(name, future);
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.icons.remove(name, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Loads an icon from a set of image files, cached under the joined file paths.
+     *
+     * @param files The images to decode
+     * @return A future completed with the decoded icon
+     */
+    public CompletableFuture<WindowIcon> load(Path... files) {
+        ImageSource[] sources = new ImageSource[files.length];
+        for (int i = 0; i < files.length; i++) {
+            Path file = files[i];
+            sources[i] = () -> Files.newInputStream(file);
+        }
+        return this.load(Arrays.toString(files), sources);
+    }
+
+    private static WindowIcon decode(String name, ImageSource[] sources) {
+        long start = System.nanoTime();
+        ByteBuffer[] pixels = new ByteBuffer[sources.length];
+        int[] widths = new int[sources.length];
+        int[] heights = new int[sources.length];
+        try {
+            for (int i = 0; i < sources.length; i++) {
+                byte[] encoded;
+                try (InputStream stream = sources[i].open()) {
+                    encoded = stream.readAllBytes();
+                } catch (IOException e) {
+                    throw new CompletionException(new IOException("Failed to read icon " + name, e));
+                }
+
+                ByteBuffer buffer = MemoryUtil.memAlloc(encoded.length);
+                try (MemoryStack stack = MemoryStack.stackPush()) {
+                    IntBuffer width = stack.mallocInt(1);
+                    IntBuffer height = stack.mallocInt(1);
+                    IntBuffer channels = stack.mallocInt(1);
+                    pixels[i] = STBImage.stbi_load_from_memory(buffer.put(encoded).flip(), width, height, channels, 4);
+                    if (pixels[i] == null) {
+                        throw new CompletionException(new IOException("Failed to decode icon " + name + ": " + STBImage.stbi_failure_reason()));
+                    }
+                    widths[i] = width.get(0);
+                    heights[i] = height.get(0);
+                } finally {
+                    MemoryUtil.memFree(buffer);
+                }
+            }
+        } catch (Throwable t) {
+            for (ByteBuffer image : pixels) {
+                if (image != null) {
+                    STBImage.stbi_image_free(image);
+                }
+            }
+            throw t;
+        }
+
+        WindowIcon icon = new WindowIcon(name, pixels, widths, heights);
+        LOGGER.debug("Decoded {} in {}ms", icon, (System.nanoTime() - start) / 1_000_000.0);
+        return icon;
+    }
+
+    /**
+     * Removes an icon from the cache and frees it once it has finished loading. Windows already using the icon keep it, since GLFW copies the pixels, and a window still applying the icon finishes before it is freed.
+     *
+     * @param name The name of the icon
+     * @return Whether an icon was removed
+     */
+    public boolean evict(String name) {
+        CompletableFuture<WindowIcon> icon = this.icons.remove(name);
+        if (icon == null) {
+            return false;
+        }
+        icon.thenAccept(WindowIcon::free);
+        return true;
+    }
+
+    /**
+     * Sets the executor images are decoded on. This only affects icons loaded afterward.
+     *
+     * @param executor The executor to decode on or <code>null</code> to use the thread owned by this cache
+     */
+    public void setExecutor(@Nullable Executor executor) {
+        this.executor = executor != null ? executor : this.decoder;
+    }
+
+    /**
+     * @return The number of cached icons, including ones still loading
+     */
+    public int size() {
+        return this.icons.size();
+    }
+
+    @Override
+    public void free() {
+        this.decoder.shutdown();
+        for (String name : this.icons.keySet()) {
+            this.evict(name);
+        }
+    }
+
+    /**
+     * Opens the stream of an encoded image.
+     *
+     * @author Ocelot
+     */
+    @FunctionalInterface
+    public interface ImageSource {
+
+        /**
+         * @return A new stream of the image file
+         * @throws IOException If the stream cannot be opened
+         */
+        InputStream open() throws IOException;
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.ocelot.window;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * <p>Plays back a recording made by {@link InputRecorder}. Events are fed into windows exactly as if GLFW had sent them, so window state is updated and listeners such as {@link io.github.ocelot.window.input.MouseHandler} and {@link io.github.ocelot.window.input.KeyboardHandler} see the recorded traffic.</p>
+ * <p>Playback can either follow the recorded timing or send events as fast as possible.</p>
+ *
+ * @author Ocelot
+ * @see InputRecorder
+ */
+public final class InputPlayer implements AutoCloseable {
+
+    private static final long SPIN_THRESHOLD = 1_000_000L;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer data;
+    private final long eventCount;
+
+    /**
+     * Opens a recording for playback.
+     *
+     * @param file The recording to open
+     * @throws IOException If the file cannot be read or is not a valid recording
+     */
+    public InputPlayer(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer header = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, InputRecorder.HEADER_SIZE);
+            header.order(InputRecorder.ORDER);
+            if (header.getInt(0) != InputRecorder.MAGIC) {
+                throw new IOException("Not an input recording: " + file);
+            }
+            if (header.getInt(4) != InputRecorder.VERSION) {
+                throw new IOException("Unsupported recording version " + header.getInt(4) + ": " + file);
+            }
+
+            long dataLength = header.getLong(InputRecorder.DATA_LENGTH);
+            if (dataLength > Integer.MAX_VALUE) {
+                throw new IOException("Recording is too large to play: " + file);
+            }
+            this.eventCount = header.getLong(InputRecorder.EVENT_COUNT);
+            this.data = this.channel.map(FileChannel.MapMode.READ_ONLY, InputRecorder.HEADER_SIZE, dataLength);
+            this.data.order(InputRecorder.ORDER);
+        } catch (IOException e) {
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Plays every event in the recording into a single window, regardless of which window originally received it.
+     *
+     * @param window   The window to send events to
+     * @param realTime Whether to wait between events to match the recording or send them as fast as possible
+     * @return The number of events played
+     */
+    public long play(Window window, boolean realTime) {
+        return this.play(handle -> window, realTime);
+    }
+
+    /**
+     * Plays every event in the recording.
+     *
+     * @param windows  Maps the recorded window handles to the window that should receive their events. Events for windows mapped to <code>null</code> are skipped
+     * @param realTime Whether to wait between events to match the recording or send them as fast as possible
+     * @return The number of events played
+     */
+    public long play(LongFunction<@Nullable Window> windows, boolean realTime) {
+        MappedByteBuffer data = this.data;
+        data.rewind();
+
+        long start = System.nanoTime();
+        long played = 0;
+        for (long i = 0; i < this.eventCount; i++) {
+            WindowEventType type = InputRecorder.type(data.get());
+            long timestamp = data.getLong();
+            long handle = data.getLong();
+            int intCount = InputRecorder.intCount(type);
+            int i0 = intCount > 0 ? data.getInt() : 0;
+            int i1 = intCount > 1 ? data.getInt() : 0;
+            int i2 = intCount > 2 ? data.getInt() : 0;
+            boolean hasDoubles = InputRecorder.doubleCount(type) > 0;
+            double d0 = hasDoubles ? data.getDouble() : 0;
+            double d1 = hasDoubles ? data.getDouble() : 0;
+            Path[] paths = type == WindowEventType.FILES_DROPPED ? readPaths(data) : null;
+
+            Window window = windows.apply(handle);
+            if (window == null) {
+                continue;
+            }
+
+            if (realTime) {
+                waitUntil(start + timestamp);
+            }
+            window.receive(type, i0, i1, i2, d0, d1, paths);
+            played++;
+        }
+        return played;
+    }
+
+    private static Path[] readPaths(MappedByteBuffer data) {
+        Path[] paths = new Path[data.getInt()];
+        for (int i = 0; i < paths.length; i++) {
+            byte[] path = new byte[data.getInt()];
+            data.get(path);
+            paths[i] = Paths.get(new String(path, StandardCharsets.UTF_8));
+        }
+        return paths;
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            // Sleeping is far too coarse for input timing, so only sleep when the event is far away
+            if (remaining > SPIN_THRESHOLD) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * @return The number of events in the recording
+     */
+    public long getEventCount() {
+        return this.eventCount;
+    }
+
+    /**
+     * @return The recording being played
+     */
+    public Path getFile() {
+        return this.file;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
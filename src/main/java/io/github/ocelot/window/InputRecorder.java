@@ -0,0 +1,221 @@
+package io.github.ocelot.window;
+
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.system.NativeResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Records every event received by the attached windows into a binary log that can be played back with {@link InputPlayer}.</p>
+ * <p>The log is written through memory mapped regions of the file, so recording does not allocate or make system calls for each event. The header is updated after every event, so everything recorded up to a crash can still be played back.</p>
+ * <p>Events can be recorded from any thread. Events received after the recorder is freed are ignored.</p>
+ *
+ * @author Ocelot
+ * @see InputPlayer
+ */
+public final class InputRecorder implements NativeResource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InputRecorder.class);
+
+    static final int MAGIC = 0x474C4657; // GLFW
+    static final int VERSION = 1;
+    static final int EVENT_COUNT = 8;
+    static final int DATA_LENGTH = 16;
+    static final int HEADER_SIZE = 24;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final int REGION_SIZE = 4 * 1024 * 1024;
+    private static final WindowEventType[] TYPES = WindowEventType.values();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final List<Window> windows;
+    private final long startTime;
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long dataLength;
+    private volatile long eventCount;
+    private boolean closed;
+
+    /**
+     * Creates a new recording, replacing the file if it already exists.
+     *
+     * @param file The file to write the recording to
+     * @throws IOException If the file cannot be created
+     */
+    public InputRecorder(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.header = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        this.header.order(ORDER);
+        this.header.putInt(0, MAGIC);
+        this.header.putInt(4, VERSION);
+        this.windows = new ArrayList<>();
+        this.startTime = System.nanoTime();
+        this.map(HEADER_SIZE, REGION_SIZE);
+    }
+
+    /**
+     * Starts recording all events received by the specified window. A window can only be recorded by one recorder at a time.
+     *
+     * @param window The window to record
+     */
+    public synchronized void attach(Window window) {
+        InputRecorder old = window.getRecorder();
+        if (old != null && old != this) {
+            old.detach(window);
+        }
+        window.setRecorder(this);
+        if (!this.windows.contains(window)) {
+            this.windows.add(window);
+        }
+    }
+
+    /**
+     * Stops recording events from the specified window.
+     *
+     * @param window The window to stop recording
+     */
+    public synchronized void detach(Window window) {
+        if (this.windows.remove(window) && window.getRecorder() == this) {
+            window.setRecorder(null);
+        }
+    }
+
+    synchronized void record(Window window, WindowEventType type, int i0, int i1, int i2, double d0, double d1, @Nullable Object payload) {
+        // A window can still be delivering an event while another thread frees the recorder, and the file may already be truncated
+        if (this.closed) {
+            return;
+        }
+
+        byte[][] paths = null;
+        int size = 1 + 8 + 8 + intCount(type) * 4 + doubleCount(type) * 8;
+        if (type == WindowEventType.FILES_DROPPED && payload instanceof Path[] dropped) {
+            paths = new byte[dropped.length][];
+            size += 4;
+            for (int i = 0; i < dropped.length; i++) {
+                paths[i] = dropped[i].toString().getBytes(StandardCharsets.UTF_8);
+                size += 4 + paths[i].length;
+            }
+        }
+
+        try {
+            if (this.region.remaining() < size) {
+                this.map(this.regionStart + this.region.position(), Math.max(REGION_SIZE, size));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to grow recording " + this.file, e);
+        }
+
+        MappedByteBuffer region = this.region;
+        region.put((byte) type.ordinal());
+        region.putLong(System.nanoTime() - this.startTime);
+        region.putLong(window.getHandle());
+        switch (intCount(type)) {
+            case 3:
+                region.putInt(i0);
+                region.putInt(i1);
+                region.putInt(i2);
+                break;
+            case 2:
+                region.putInt(i0);
+                region.putInt(i1);
+                break;
+            case 1:
+                region.putInt(i0);
+                break;
+        }
+        if (doubleCount(type) == 2) {
+            region.putDouble(d0);
+            region.putDouble(d1);
+        }
+        if (type == WindowEventType.FILES_DROPPED) {
+            region.putInt(paths != null ? paths.length : 0);
+            if (paths != null) {
+                for (byte[] path : paths) {
+                    region.putInt(path.length);
+                    region.put(path);
+                }
+            }
+        }
+
+        this.dataLength += size;
+        this.eventCount++;
+        this.header.putLong(EVENT_COUNT, this.eventCount);
+        this.header.putLong(DATA_LENGTH, this.dataLength);
+    }
+
+    private void map(long position, long size) throws IOException {
+        this.region = this.channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+        this.region.order(ORDER);
+        this.regionStart = position;
+    }
+
+    /**
+     * @return The number of events recorded so far
+     */
+    public long getEventCount() {
+        return this.eventCount;
+    }
+
+    /**
+     * @return The file the recording is written to
+     */
+    public Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * Detaches from all windows and finishes writing the file. Calling this more than once does nothing.
+     */
+    @Override
+    public synchronized void free() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        List.copyOf(this.windows).forEach(this::detach);
+        try {
+            this.header.force();
+            this.region.force();
+            try {
+                // Not possible on some platforms while the regions are still mapped
+                this.channel.truncate(HEADER_SIZE + this.dataLength);
+            } catch (IOException e) {
+                LOGGER.debug("Failed to trim recording {}", this.file, e);
+            }
+            this.channel.close();
+        } catch (IOException e) {
+            LOGGER.error("Failed to close recording {}", this.file, e);
+        }
+    }
+
+    static int intCount(WindowEventType type) {
+        return switch (type) {
+            case CLOSED, FILES_DROPPED, MOUSE_MOVED, MOUSE_SCROLLED -> 0;
+            case FOCUS_CHANGED, CURSOR_ENTERED -> 1;
+            case MOVED, RESIZED, FRAMEBUFFER_RESIZED, CHAR_TYPED, MOUSE_PRESSED, MOUSE_RELEASED -> 2;
+            case KEY_PRESSED, KEY_RELEASED, KEY_REPEATED -> 3;
+        };
+    }
+
+    static int doubleCount(WindowEventType type) {
+        return type == WindowEventType.MOUSE_MOVED || type == WindowEventType.MOUSE_SCROLLED ? 2 : 0;
+    }
+
+    static WindowEventType type(int ordinal) {
+        return TYPES[ordinal];
+    }
+}
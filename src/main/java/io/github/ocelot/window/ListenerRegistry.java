@@ -0,0 +1,93 @@
+package io.github.ocelot.window;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Stores the listeners of a window indexed by the events they actually handle. Each event type has its own array of listeners sorted by priority, which is rebuilt whenever a listener is added or removed. Dispatch only ever reads a published array, so listeners can be added and removed at any time, including while an event is being dispatched.
+ *
+ * @author Ocelot
+ */
+final class ListenerRegistry {
+
+    private static final WindowEventListener[] NO_LISTENERS = new WindowEventListener[0];
+    private static final WindowEventType[] TYPES = WindowEventType.values();
+    private static final ClassValue<Integer> SUBSCRIPTIONS = new ClassValue<>() {
+        @SuppressWarnings("unchecked")
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int mask = 0;
+            for (WindowEventType eventType : TYPES) {
+                if (eventType.isHandledBy((Class<? extends WindowEventListener>) type)) {
+                    mask |= 1 << eventType.ordinal();
+                }
+            }
+            return mask;
+        }
+    };
+
+    private final List<Entry> entries;
+    private volatile WindowEventListener[][] listeners;
+
+    ListenerRegistry() {
+        this.entries = new ArrayList<>();
+        this.listeners = new WindowEventListener[TYPES.length][];
+        for (int i = 0; i < TYPES.length; i++) {
+            this.listeners[i] = NO_LISTENERS;
+        }
+    }
+
+    /**
+     * Adds a listener. Listeners with a higher priority receive events first and listeners with the same priority are called in the order they were added.
+     *
+     * @param listener The listener to add
+     * @param priority The priority of the listener
+     */
+    synchronized void add(WindowEventListener listener, int priority) {
+        this.entries.add(new Entry(listener, priority, SUBSCRIPTIONS.get(listener.getClass())));
+        // List#sort is stable, so equal priorities keep their insertion order
+        this.entries.sort(Comparator.comparingInt(Entry::priority).reversed());
+        this.rebuild();
+    }
+
+    /**
+     * Removes the first registration of the specified listener.
+     *
+     * @param listener The listener to remove
+     * @return Whether a listener was removed
+     */
+    synchronized boolean remove(WindowEventListener listener) {
+        for (int i = 0; i < this.entries.size(); i++) {
+            if (this.entries.get(i).listener().equals(listener)) {
+                this.entries.remove(i);
+                this.rebuild();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param type The type of event to get the listeners of
+     * @return The listeners for that event in the order they should be called. This array must not be modified
+     */
+    WindowEventListener[] get(WindowEventType type) {
+        return this.listeners[type.ordinal()];
+    }
+
+    private void rebuild() {
+        WindowEventListener[][] listeners = new WindowEventListener[TYPES.length][];
+        for (WindowEventType type : TYPES) {
+            int bit = 1 << type.ordinal();
+            listeners[type.ordinal()] = this.entries.stream()
+                    .filter(entry -> (entry.subscriptions() & bit) != 0)
+                    .map(Entry::listener)
+                    .toArray(WindowEventListener[]::new);
+        }
+        this.listeners = listeners;
+    }
+
+    private record Entry(WindowEventListener listener, int priority, int subscriptions) {
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.ocelot.window;
 
-import org.lwjgl.glfw.GLFWVidMode;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.system.MemoryStack;
 
 import java.nio.IntBuffer;
@@ -9,55 +10,69 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
-import static org.lwjgl.glfw.GLFW.*;
-
 /**
- * A monitor detected by GLFW that can be used in window creation.
+ * A snapshot of a monitor detected by GLFW that can be used in window creation. The position and current mode never change, so a monitor can be read from any thread. {@link WindowManager#refreshMonitors()} replaces every monitor with a new snapshot instead.
  *
  * @author Ocelot
  */
 public class Monitor {
 
+    private final WindowBackend backend;
     private final long handle;
-    private final List<VideoMode> videoModes;
-    private final List<VideoMode> videoModesView;
-    private VideoMode currentMode;
-    private int x;
-    private int y;
+    private volatile VideoModes videoModes;
+    private final VideoMode currentMode;
+    private final int x;
+    private final int y;
 
     public Monitor(long handle) {
-        this.handle = handle;
-        this.videoModes = new ArrayList<>();
-        this.videoModesView = Collections.unmodifiableList(this.videoModes);
-        this.refreshVideoModes();
+        this(WindowBackend.GLFW, handle);
     }
 
-    /**
-     * Queries GLFW for the position and valid video modes of this monitor.
-     */
-    public void refreshVideoModes() {
-        this.videoModes.clear();
-        GLFWVidMode.Buffer buffer = glfwGetVideoModes(this.handle);
-
-        if (buffer != null) {
-            for (int i = buffer.limit() - 1; i >= 0; i--) {
-                buffer.position(i);
-                VideoMode videoMode = new VideoMode(buffer);
-                if (videoMode.redBits() >= 8 && videoMode.greenBits() >= 8 && videoMode.blueBits() >= 8) {
-                    this.videoModes.add(videoMode);
-                }
-            }
-        }
-
+    @ApiStatus.Internal
+    Monitor(WindowBackend backend, long handle) {
+        this.backend = backend;
+        this.handle = handle;
         try (MemoryStack stack = MemoryStack.stackPush()) {
             IntBuffer x = stack.mallocInt(1);
             IntBuffer y = stack.mallocInt(1);
-            glfwGetMonitorPos(this.handle, x, y);
+            backend.getMonitorPos(handle, x, y);
             this.x = x.get(0);
             this.y = y.get(0);
         }
+        this.currentMode = Objects.requireNonNull(backend.getVideoMode(handle));
+    }
+
+    @ApiStatus.Internal
+    Monitor(WindowBackend backend, long handle, int x, int y, VideoMode currentMode) {
+        this.backend = backend;
+        this.handle = handle;
+        this.videoModes = new VideoModes(List.of(currentMode));
+        this.currentMode = currentMode;
+        this.x = x;
+        this.y = y;
+    }
+
+    private VideoModes loadVideoModes() {
+        List<VideoMode> videoModes = new ArrayList<>();
+        VideoMode[] modes = this.backend.getVideoModes(this.handle);
+        for (int i = modes.length - 1; i >= 0; i--) {
+            VideoMode mode = modes[i];
+            if (mode.redBits() >= 8 && mode.greenBits() >= 8 && mode.blueBits() >= 8) {
+                videoModes.add(mode);
+            }
+        }
+
+        return new VideoModes(Collections.unmodifiableList(videoModes));
+    }
 
-        this.currentMode = new VideoMode(Objects.requireNonNull(glfwGetVideoMode(this.handle)));
+    // Loading twice from racing threads is harmless, since both results are equal and immutable
+    private VideoModes getLoadedVideoModes() {
+        VideoModes videoModes = this.videoModes;
+        if (videoModes == null) {
+            videoModes = this.loadVideoModes();
+            this.videoModes = videoModes;
+        }
+        return videoModes;
     }
 
     /**
@@ -67,6 +82,16 @@ public class Monitor {
         return this.currentMode;
     }
 
+    /**
+     * Finds the video mode that best matches a preference. The closest resolution is chosen first, then the closest refresh rate at that resolution, ignoring modes below the minimum bit depth. The same threading rules as {@link #getVideoModes()} apply.
+     *
+     * @param preference The preferred mode
+     * @return The best mode or <code>null</code> if no mode has the minimum bit depth
+     */
+    public @Nullable VideoMode findVideoMode(VideoModePreference preference) {
+        return this.getLoadedVideoModes().index().find(preference, this.currentMode);
+    }
+
     /**
      * @return The absolute x position of this monitor
      */
@@ -82,10 +107,12 @@ public class Monitor {
     }
 
     /**
+     * Retrieves all valid video modes for this monitor. These are only queried the first time they are needed, since most monitors are never used for fullscreen. That first call queries GLFW and must be made from the main thread. Once loaded, the modes are published with the monitor and can be read from any thread.
+     *
      * @return A view of all possible video modes for this monitor
      */
     public List<VideoMode> getVideoModes() {
-        return this.videoModesView;
+        return this.getLoadedVideoModes().modes();
     }
 
     /**
@@ -99,4 +126,14 @@ public class Monitor {
     public String toString() {
         return String.format("Monitor[%s %s,%s %s]", this.handle, this.x, this.y, this.currentMode);
     }
+
+    /**
+     * The valid video modes of a monitor and the index used to search them, published together so a reader never sees one without the other.
+     */
+    private record VideoModes(List<VideoMode> modes, VideoModeIndex index) {
+
+        VideoModes(List<VideoMode> modes) {
+            this(modes, new VideoModeIndex(modes));
+        }
+    }
 }
@@ -0,0 +1,208 @@
+package io.github.ocelot.window;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>An immutable lookup structure for connected monitors. Monitors are stored in an open addressing table keyed by their primitive handle, and the bounds of every monitor are packed into a single array so finding the monitor that best covers a rectangle is a linear scan over ints.</p>
+ * <p>Indices are rebuilt when monitors connect or disconnect and published as a whole, so any thread can read one without locking. Lookups never allocate or call into GLFW. Every rebuild has a higher version than the index it replaced.</p>
+ *
+ * @author Ocelot
+ */
+final class MonitorIndex {
+
+    static final MonitorIndex EMPTY = new MonitorIndex(new Monitor[0], 0L, 0L);
+
+    private static final int MIN_X = 0;
+    private static final int MIN_Y = 1;
+    private static final int MAX_X = 2;
+    private static final int MAX_Y = 3;
+    private static final int BOUNDS_STRIDE = 4;
+
+    private final Monitor[] monitors;
+    private final List<Monitor> monitorsView;
+    private final int[] bounds;
+    private final long[] keys;
+    private final Monitor[] values;
+    private final int mask;
+    private final long primaryHandle;
+    private final long version;
+
+    MonitorIndex(Monitor[] monitors, long primaryHandle, long version) {
+        this.monitors = monitors;
+        this.monitorsView = List.of(monitors);
+        this.version = version;
+        this.bounds = new int[monitors.length * BOUNDS_STRIDE];
+        this.primaryHandle = primaryHandle;
+
+        int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, monitors.length) * 2 - 1) << 1);
+        this.keys = new long[capacity];
+        this.values = new Monitor[capacity];
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < monitors.length; i++) {
+            Monitor monitor = monitors[i];
+            VideoMode mode = monitor.getCurrentMode();
+            int offset = i * BOUNDS_STRIDE;
+            this.bounds[offset + MIN_X] = monitor.getX();
+            this.bounds[offset + MIN_Y] = monitor.getY();
+            this.bounds[offset + MAX_X] = monitor.getX() + mode.width();
+            this.bounds[offset + MAX_Y] = monitor.getY() + mode.height();
+
+            int slot = slot(monitor.getHandle());
+            while (this.keys[slot] != 0L && this.keys[slot] != monitor.getHandle()) {
+                slot = (slot + 1) & this.mask;
+            }
+            this.keys[slot] = monitor.getHandle();
+            this.values[slot] = monitor;
+        }
+    }
+
+    private int slot(long handle) {
+        // Handles are pointers, so the low bits are mostly alignment
+        long hash = handle * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32) & this.mask;
+    }
+
+    /**
+     * @param handle The handle of the monitor
+     * @return The monitor with that handle or <code>null</code> if it is not connected
+     */
+    @Nullable Monitor get(long handle) {
+        if (handle == 0L) {
+            return null;
+        }
+        int slot = this.slot(handle);
+        long key;
+        while ((key = this.keys[slot]) != 0L) {
+            if (key == handle) {
+                return this.values[slot];
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return null;
+    }
+
+    /**
+     * Finds the monitor that covers the largest area of a rectangle. The primary monitor wins ties.
+     *
+     * @return The best monitor or <code>null</code> if there are no monitors
+     */
+    @Nullable Monitor findBest(int minX, int minY, int maxX, int maxY) {
+        int[] bounds = this.bounds;
+        int bestArea = -1;
+        int best = -1;
+        for (int i = 0, offset = 0; offset < bounds.length; i++, offset += BOUNDS_STRIDE) {
+            int monitorMinX = bounds[offset + MIN_X];
+            int monitorMinY = bounds[offset + MIN_Y];
+            int monitorMaxX = bounds[offset + MAX_X];
+            int monitorMaxY = bounds[offset + MAX_Y];
+            int t = clamp(minX, monitorMinX, monitorMaxX);
+            int u = clamp(maxX, monitorMinX, monitorMaxX);
+            int v = clamp(minY, monitorMinY, monitorMaxY);
+            int w = clamp(maxY, monitorMinY, monitorMaxY);
+            int area = Math.max(0, u - t) * Math.max(0, w - v);
+
+            // If the new monitor has the most window area, then try to use that one
+            if (area > bestArea) {
+                best = i;
+                bestArea = area;
+            } else if (area == bestArea && this.primaryHandle == this.monitors[i].getHandle()) {
+                best = i;
+            }
+        }
+        return best != -1 ? this.monitors[best] : null;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return value < min ? min : Math.min(value, max);
+    }
+
+    /**
+     * Creates a new index with a monitor added or replaced.
+     *
+     * @param monitor       The monitor to add
+     * @param primaryHandle The handle of the primary monitor
+     * @return A new index
+     */
+    MonitorIndex with(Monitor monitor, long primaryHandle) {
+        for (int i = 0; i < this.monitors.length; i++) {
+            if (this.monitors[i].getHandle() == monitor.getHandle()) {
+                Monitor[] monitors = this.monitors.clone();
+                monitors[i] = monitor;
+                return new MonitorIndex(monitors, primaryHandle, this.version + 1);
+            }
+        }
+        Monitor[] monitors = Arrays.copyOf(this.monitors, this.monitors.length + 1);
+        monitors[this.monitors.length] = monitor;
+        return new MonitorIndex(monitors, primaryHandle, this.version + 1);
+    }
+
+    /**
+     * Creates a new index with a monitor removed.
+     *
+     * @param handle        The handle of the monitor to remove
+     * @param primaryHandle The handle of the primary monitor
+     * @return A new index
+     */
+    MonitorIndex without(long handle, long primaryHandle) {
+        for (int i = 0; i < this.monitors.length; i++) {
+            if (this.monitors[i].getHandle() == handle) {
+                Monitor[] monitors = new Monitor[this.monitors.length - 1];
+                System.arraycopy(this.monitors, 0, monitors, 0, i);
+                System.arraycopy(this.monitors, i + 1, monitors, i, monitors.length - i);
+                return new MonitorIndex(monitors, primaryHandle, this.version + 1);
+            }
+        }
+        return new MonitorIndex(this.monitors, primaryHandle, this.version + 1);
+    }
+
+    /**
+     * Creates a new index with refreshed copies of the monitors. Used after monitors move or change mode.
+     *
+     * @param monitors      The new monitors in connection order
+     * @param primaryHandle The handle of the primary monitor
+     * @return A new index
+     */
+    MonitorIndex rebuild(Monitor[] monitors, long primaryHandle) {
+        return new MonitorIndex(monitors, primaryHandle, this.version + 1);
+    }
+
+    /**
+     * @return An immutable list of all monitors in connection order
+     */
+    List<Monitor> getMonitors() {
+        return this.monitorsView;
+    }
+
+    /**
+     * @return The primary monitor or <code>null</code> if it is not connected
+     */
+    @Nullable Monitor getPrimary() {
+        return this.get(this.primaryHandle);
+    }
+
+    /**
+     * @return The number of times monitors have changed before this index was built
+     */
+    long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * @return The number of monitors
+     */
+    int size() {
+        return this.monitors.length;
+    }
+
+    /**
+     * @param index The index of the monitor in connection order
+     * @return The monitor at that index
+     */
+    Monitor at(int index) {
+        return this.monitors[index];
+    }
+}
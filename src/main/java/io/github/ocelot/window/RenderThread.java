@@ -0,0 +1,101 @@
+package io.github.ocelot.window;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renders a single window and owns its context. Events are still received on the main thread and handed off through atomics, so the render thread never waits on the event pump.
+ *
+ * @author Ocelot
+ */
+final class RenderThread extends Thread {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RenderThread.class);
+    private static final long NO_SIZE = -1L;
+
+    private final Window window;
+    private final WindowRenderer renderer;
+    private final AtomicLong pendingFramebufferSize;
+    private final AtomicBoolean pendingClose;
+    private volatile boolean running;
+
+    RenderThread(Window window, WindowRenderer renderer) {
+        super("Render " + window.getTitle());
+        this.window = window;
+        this.renderer = renderer;
+        this.pendingFramebufferSize = new AtomicLong(NO_SIZE);
+        this.pendingClose = new AtomicBoolean();
+        this.running = true;
+        this.setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+        long handle = this.window.getHandle();
+        this.window.getBackend().makeContextCurrent(handle);
+        try {
+            this.renderer.init(this.window);
+            while (this.running) {
+                long size = this.pendingFramebufferSize.getAndSet(NO_SIZE);
+                if (size != NO_SIZE) {
+                    this.renderer.framebufferResized(this.window, (int) (size >> 32), (int) size);
+                }
+                if (this.pendingClose.getAndSet(false)) {
+                    this.renderer.windowClosed(this.window);
+                }
+
+                this.renderer.render(this.window);
+
+                FrameLimiter limiter = this.window.getFrameLimiter();
+                if (limiter != null) {
+                    limiter.sync();
+                }
+                long start = System.nanoTime();
+                this.window.present(this.window.getSwapInterval());
+                long end = System.nanoTime();
+                this.window.getFrameStatistics().framePresented(end, end - start);
+            }
+            this.renderer.free(this.window);
+        } catch (Throwable t) {
+            LOGGER.error("Render thread for {} crashed", this.window, t);
+            this.window.getBackend().makeContextCurrent(0L);
+            // Hand presentation back to the main thread, otherwise the window would never be presented again
+            this.window.renderThreadCrashed(this, t);
+        } finally {
+            this.running = false;
+            this.window.getBackend().makeContextCurrent(0L);
+        }
+    }
+
+    void framebufferResized(int width, int height) {
+        this.pendingFramebufferSize.set((long) width << 32 | height & 0xFFFFFFFFL);
+    }
+
+    void windowClosed() {
+        this.pendingClose.set(true);
+    }
+
+    /**
+     * Asks the thread to stop after the current frame and waits for it to release the context.
+     */
+    void shutdown() {
+        this.running = false;
+        if (Thread.currentThread() == this) {
+            return;
+        }
+        boolean interrupted = false;
+        while (this.isAlive()) {
+            try {
+                this.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.ocelot.window;
+
+import java.util.Arrays;
+
+/**
+ * <p>Records how long each phase of startup took, from {@link WindowManager} construction until the first frame is presented.</p>
+ * <p>Each phase is only recorded the first time it completes. Phases that are skipped, such as presenting when windows have no OpenGL context, are never recorded.</p>
+ *
+ * @author Ocelot
+ * @see WindowManager#getStartupTimings()
+ */
+public final class StartupTimings {
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long start;
+    private final long[] times;
+    private volatile boolean complete;
+
+    StartupTimings() {
+        this.start = System.nanoTime();
+        this.times = new long[PHASES.length];
+        Arrays.fill(this.times, -1L);
+    }
+
+    /**
+     * Records the end of a phase if it has not already been recorded.
+     *
+     * @return Whether this was the first time the phase completed
+     */
+    boolean mark(Phase phase) {
+        if (this.complete) {
+            return false;
+        }
+
+        synchronized (this) {
+            if (this.times[phase.ordinal()] != -1L) {
+                return false;
+            }
+            this.times[phase.ordinal()] = System.nanoTime() - this.start;
+            if (phase == Phase.FIRST_FRAME_PRESENTED) {
+                this.complete = true;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * @param phase The phase to get
+     * @return The nanoseconds from construction of the window manager until the phase completed or <code>-1</code> if it has not completed yet
+     */
+    public synchronized long getTime(Phase phase) {
+        return this.times[phase.ordinal()];
+    }
+
+    /**
+     * @param phase The phase to get
+     * @return The nanoseconds spent in the phase after the last recorded phase before it or <code>-1</code> if it has not completed yet
+     */
+    public synchronized long getDuration(Phase phase) {
+        long end = this.times[phase.ordinal()];
+        if (end == -1L) {
+            return -1L;
+        }
+        for (int i = phase.ordinal() - 1; i >= 0; i--) {
+            if (this.times[i] != -1L) {
+                return end - this.times[i];
+            }
+        }
+        return end;
+    }
+
+    /**
+     * @return Whether the first frame has been presented
+     */
+    public boolean isComplete() {
+        return this.complete;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder("StartupTimings[");
+        boolean first = true;
+        for (Phase phase : PHASES) {
+            long duration = this.getDuration(phase);
+            if (duration == -1L) {
+                continue;
+            }
+            if (!first) {
+                builder.append(", ");
+            }
+            builder.append(phase.name().toLowerCase()).append('=').append(String.format("%.3fms", duration / 1_000_000.0));
+            first = false;
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * The phases of startup in the order they happen.
+     */
+    public enum Phase {
+        /**
+         * GLFW was initialized.
+         */
+        GLFW_INIT,
+        /**
+         * Connected joysticks were found.
+         */
+        GAMEPADS,
+        /**
+         * Connected monitors and their current video modes were found. Lists of all video modes are loaded later on demand.
+         */
+        MONITORS,
+        /**
+         * The first window was created and shown.
+         */
+        FIRST_WINDOW_CREATED,
+        /**
+         * The first window with an OpenGL context presented a frame.
+         */
+        FIRST_FRAME_PRESENTED
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.ocelot.window;
+
+import java.util.Arrays;
+
+/**
+ * <p>A fixed size histogram of durations in nanoseconds. Values are stored in log-linear buckets, each power of two split into {@value #SUB_BUCKETS} linear buckets, so any percentile is accurate to within about 3% while using the same memory no matter how many values are recorded.</p>
+ * <p>Durations up to about 68 seconds are tracked, anything longer is counted in the last bucket.</p>
+ *
+ * @author Ocelot
+ */
+public final class TimeHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 36;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final long[] counts;
+    private long count;
+    private long total;
+    private long min;
+    private long max;
+
+    public TimeHistogram() {
+        this.counts = new long[BUCKETS];
+        this.reset();
+    }
+
+    /**
+     * Adds a duration to the histogram.
+     *
+     * @param nanos The duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        this.counts[index(value)]++;
+        this.count++;
+        this.total += value;
+        if (value < this.min) {
+            this.min = value;
+        }
+        if (value > this.max) {
+            this.max = value;
+        }
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(this.counts, 0);
+        this.count = 0;
+        this.total = 0;
+        this.min = Long.MAX_VALUE;
+        this.max = 0;
+    }
+
+    /**
+     * Finds the duration the specified percentage of recorded values are at or below.
+     *
+     * @param percentile The percentile to get from <code>0</code> to <code>100</code>. For example <code>99.9</code>
+     * @return The approximate duration at that percentile in nanoseconds or <code>0</code> if nothing has been recorded
+     */
+    public long getPercentile(double percentile) {
+        if (this.count == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(this.count * Math.min(100, Math.max(0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts[i];
+            if (seen >= target) {
+                if (i == BUCKETS - 1) {
+                    return this.max;
+                }
+                // The middle of the bucket, but never outside the range actually recorded
+                return Math.max(this.min, Math.min(this.max, lowerBound(i) + bucketWidth(i) / 2));
+            }
+        }
+        return this.max;
+    }
+
+    /**
+     * @return The number of recorded values
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * @return The smallest recorded duration in nanoseconds or <code>0</code> if nothing has been recorded
+     */
+    public long getMin() {
+        return this.count > 0 ? this.min : 0;
+    }
+
+    /**
+     * @return The largest recorded duration in nanoseconds
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    /**
+     * @return The average recorded duration in nanoseconds
+     */
+    public double getMean() {
+        return this.count > 0 ? (double) this.total / this.count : 0;
+    }
+
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + (int) ((value >> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    private static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    private static long bucketWidth(int index) {
+        return index < SUB_BUCKETS ? 1 : 1L << (index / SUB_BUCKETS - 1);
+    }
+}
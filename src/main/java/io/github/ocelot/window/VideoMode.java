@@ -3,8 +3,13 @@ package io.github.ocelot.window;
 import org.lwjgl.glfw.GLFWVidMode;
 import org.lwjgl.glfw.GLFWVidMode.Buffer;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public record VideoMode(int width, int height, int redBits, int greenBits, int blueBits, int refreshRate) {
 
+    private static final Map<VideoMode, VideoMode> INTERNED = new ConcurrentHashMap<>();
+
     public VideoMode(Buffer buffer) {
         this(buffer.width(), buffer.height(), buffer.redBits(), buffer.greenBits(), buffer.blueBits(), buffer.refreshRate());
     }
@@ -12,4 +17,32 @@ public record VideoMode(int width, int height, int redBits, int greenBits, int b
     public VideoMode(GLFWVidMode vidMode) {
         this(vidMode.width(), vidMode.height(), vidMode.redBits(), vidMode.greenBits(), vidMode.blueBits(), vidMode.refreshRate());
     }
+
+    /**
+     * Retrieves the shared instance of the video mode at the current position of the buffer. Monitors usually support the same modes, so they all share one instance.
+     *
+     * @param buffer The buffer to read from
+     * @return The interned video mode
+     */
+    public static VideoMode of(Buffer buffer) {
+        return new VideoMode(buffer).intern();
+    }
+
+    /**
+     * Retrieves the shared instance of the specified video mode.
+     *
+     * @param vidMode The GLFW video mode
+     * @return The interned video mode
+     */
+    public static VideoMode of(GLFWVidMode vidMode) {
+        return new VideoMode(vidMode).intern();
+    }
+
+    /**
+     * @return The shared instance equal to this video mode
+     */
+    public VideoMode intern() {
+        VideoMode existing = INTERNED.putIfAbsent(this, this);
+        return existing != null ? existing : this;
+    }
 }
@@ -0,0 +1,110 @@
+package io.github.ocelot.window;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>The video modes of a monitor sorted by resolution, then by refresh rate and bit depth from highest to lowest.</p>
+ * <p>Each distinct resolution is stored once with the range of modes that use it, so a query picks a resolution with a binary search and then only looks at the modes with that resolution.</p>
+ *
+ * @author Ocelot
+ */
+final class VideoModeIndex {
+
+    private static final Comparator<VideoMode> ORDER = Comparator.comparingInt(VideoMode::width)
+            .thenComparingInt(VideoMode::height)
+            .thenComparing(Comparator.comparingInt(VideoMode::refreshRate).reversed())
+            .thenComparing(Comparator.comparingInt(VideoModeIndex::bitDepth).reversed());
+
+    private final VideoMode[] modes;
+    private final long[] resolutions;
+    private final int[] starts;
+
+    VideoModeIndex(List<VideoMode> modes) {
+        this.modes = modes.toArray(new VideoMode[0]);
+        Arrays.sort(this.modes, ORDER);
+
+        int count = 0;
+        long[] resolutions = new long[this.modes.length];
+        int[] starts = new int[this.modes.length + 1];
+        for (int i = 0; i < this.modes.length; i++) {
+            long resolution = resolution(this.modes[i].width(), this.modes[i].height());
+            if (count == 0 || resolutions[count - 1] != resolution) {
+                resolutions[count] = resolution;
+                starts[count] = i;
+                count++;
+            }
+        }
+        starts[count] = this.modes.length;
+        this.resolutions = Arrays.copyOf(resolutions, count);
+        this.starts = Arrays.copyOf(starts, count + 1);
+    }
+
+    private static long resolution(int width, int height) {
+        return (long) width << 32 | height;
+    }
+
+    private static int bitDepth(VideoMode mode) {
+        return mode.redBits() + mode.greenBits() + mode.blueBits();
+    }
+
+    /**
+     * Finds the mode closest to a preference.
+     *
+     * @param preference The preferred mode
+     * @param current    The mode used for any value the preference leaves unspecified
+     * @return The best mode or <code>null</code> if no mode meets the minimum bit depth
+     */
+    @Nullable VideoMode find(VideoModePreference preference, VideoMode current) {
+        int width = preference.width() > 0 ? preference.width() : current.width();
+        int height = preference.height() > 0 ? preference.height() : current.height();
+        int refreshRate = preference.refreshRate() > 0 ? preference.refreshRate() : current.refreshRate();
+
+        int resolution = Arrays.binarySearch(this.resolutions, resolution(width, height));
+        if (resolution >= 0) {
+            VideoMode mode = this.findRefreshRate(resolution, refreshRate, preference.minBitDepth());
+            if (mode != null) {
+                return mode;
+            }
+        }
+
+        // No exact match, so pick the closest resolution that has a deep enough mode. Larger resolutions win ties
+        VideoMode best = null;
+        long bestDistance = Long.MAX_VALUE;
+        for (int i = this.resolutions.length - 1; i >= 0; i--) {
+            VideoMode first = this.modes[this.starts[i]];
+            long distance = (long) Math.abs(first.width() - width) + Math.abs(first.height() - height);
+            if (distance >= bestDistance) {
+                continue;
+            }
+            VideoMode mode = this.findRefreshRate(i, refreshRate, preference.minBitDepth());
+            if (mode != null) {
+                best = mode;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    private @Nullable VideoMode findRefreshRate(int resolution, int refreshRate, int minBitDepth) {
+        VideoMode best = null;
+        long bestDistance = Long.MAX_VALUE;
+        // Modes are sorted from the highest refresh rate, so higher rates win ties
+        for (int i = this.starts[resolution]; i < this.starts[resolution + 1]; i++) {
+            VideoMode mode = this.modes[i];
+            if (bitDepth(mode) < minBitDepth) {
+                continue;
+            }
+            long distance = Math.abs((long) mode.refreshRate() - refreshRate);
+            if (distance < bestDistance) {
+                best = mode;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+}
@@ -0,0 +1,78 @@
+package io.github.ocelot.window;
+
+/**
+ * <p>Describes the video mode to use when a window enters fullscreen. The mode closest to the preference is chosen by {@link Monitor#findVideoMode(VideoModePreference)}.</p>
+ * <p>A width and height of <code>0</code> use the current resolution of the monitor, and a refresh rate of <code>0</code> uses the current refresh rate of the monitor. For example, to switch to the fastest mode at the desktop resolution:</p>
+ * <pre>{@code
+ * window.setFullscreenMode(VideoModePreference.highestRefreshRate());
+ * }</pre>
+ *
+ * @param width       The preferred width or <code>0</code> to use the current width
+ * @param height      The preferred height or <code>0</code> to use the current height
+ * @param refreshRate The preferred refresh rate, {@link #HIGHEST} for the highest available, or <code>0</code> to use the current refresh rate
+ * @param minBitDepth The minimum total number of red, green, and blue bits
+ * @author Ocelot
+ */
+public record VideoModePreference(int width, int height, int refreshRate, int minBitDepth) {
+
+    /**
+     * Requests the highest refresh rate available.
+     */
+    public static final int HIGHEST = Integer.MAX_VALUE;
+
+    private static final int DEFAULT_BIT_DEPTH = 24;
+
+    public VideoModePreference {
+        if (width < 0 || height < 0 || refreshRate < 0 || minBitDepth < 0) {
+            throw new IllegalArgumentException("Invalid video mode preference: " + width + "x" + height + "@" + refreshRate + " " + minBitDepth + " bits");
+        }
+    }
+
+    /**
+     * @return A preference for the current mode of the monitor
+     */
+    public static VideoModePreference current() {
+        return new VideoModePreference(0, 0, 0, DEFAULT_BIT_DEPTH);
+    }
+
+    /**
+     * @return A preference for the highest refresh rate at the current resolution of the monitor
+     */
+    public static VideoModePreference highestRefreshRate() {
+        return new VideoModePreference(0, 0, HIGHEST, DEFAULT_BIT_DEPTH);
+    }
+
+    /**
+     * @param width  The preferred width
+     * @param height The preferred height
+     * @return A preference for the resolution closest to the specified size at the current refresh rate
+     */
+    public static VideoModePreference resolution(int width, int height) {
+        return new VideoModePreference(width, height, 0, DEFAULT_BIT_DEPTH);
+    }
+
+    /**
+     * @param width  The preferred width
+     * @param height The preferred height
+     * @return A copy of this preference with a new resolution
+     */
+    public VideoModePreference withResolution(int width, int height) {
+        return new VideoModePreference(width, height, this.refreshRate, this.minBitDepth);
+    }
+
+    /**
+     * @param refreshRate The preferred refresh rate or {@link #HIGHEST} for the highest available
+     * @return A copy of this preference with a new refresh rate
+     */
+    public VideoModePreference withRefreshRate(int refreshRate) {
+        return new VideoModePreference(this.width, this.height, refreshRate, this.minBitDepth);
+    }
+
+    /**
+     * @param minBitDepth The minimum total number of red, green, and blue bits
+     * @return A copy of this preference with a new minimum bit depth
+     */
+    public VideoModePreference withMinBitDepth(int minBitDepth) {
+        return new VideoModePreference(this.width, this.height, this.refreshRate, minBitDepth);
+    }
+}
@@ -6,25 +6,24 @@ import com.sun.jna.Pointer;
 import io.github.ocelot.window.input.KeyMods;
 import io.github.ocelot.window.input.KeyboardHandler;
 import io.github.ocelot.window.input.MouseHandler;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.lwjgl.glfw.GLFWDropCallback;
 import org.lwjgl.system.MemoryStack;
 import org.lwjgl.system.NativeResource;
-import org.lwjgl.system.Platform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.invoke.VarHandle;
 import java.nio.IntBuffer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Base64;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
-import static org.lwjgl.glfw.Callbacks.glfwFreeCallbacks;
 import static org.lwjgl.glfw.GLFW.*;
 import static org.lwjgl.glfw.GLFWNativeCocoa.glfwGetCocoaWindow;
 
@@ -40,11 +39,14 @@ public class Window implements NativeResource {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Window.class);
     private static final int NS_FULL_SCREEN_WINDOW_MASK = 16384;
+    private static final int COALESCED_EVENTS = 1 << WindowEventType.MOVED.ordinal() | 1 << WindowEventType.RESIZED.ordinal() | 1 << WindowEventType.FRAMEBUFFER_RESIZED.ordinal();
 
     private long handle;
 
     private final WindowManager windowManager;
-    private final List<WindowEventListener> listeners;
+    private final WindowBackend backend;
+    private final ListenerRegistry listeners;
+    private final FrameStatistics frameStatistics;
     private CharSequence title;
     private int width;
     private int height;
@@ -55,13 +57,34 @@ public class Window implements NativeResource {
     private int framebufferWidth;
     private int framebufferHeight;
     private boolean fullscreen;
+    private VideoModePreference fullscreenMode;
+    private Cursor cursor;
     private int swapInterval;
+    private int appliedSwapInterval;
+    private boolean hasContext;
+    private boolean lateLatch;
+    private boolean coalesceEvents;
+    private int pendingEvents;
+    private long coalescedEventCount;
+    private long receivedEvents;
+    private long inputSampleTime;
+    private long latchEventCount;
     private boolean focused;
     private boolean closed;
+    private boolean consumed;
+    private int dispatchDepth;
+    private volatile int geometrySequence;
+    private volatile WindowEventQueue eventQueue;
+    private volatile InputRecorder recorder;
+    private volatile FrameLimiter frameLimiter;
+    private volatile RenderThread renderThread;
+    private volatile Throwable renderThreadFailure;
 
     Window(WindowManager windowManager, int width, int height, boolean fullscreen) {
         this.windowManager = windowManager;
-        this.listeners = new LinkedList<>();
+        this.backend = windowManager != null ? windowManager.getBackend() : WindowBackend.GLFW;
+        this.listeners = new ListenerRegistry();
+        this.frameStatistics = new FrameStatistics();
         this.width = this.windowWidth = width;
         this.height = this.windowHeight = height;
         this.fullscreen = fullscreen;
@@ -69,23 +92,46 @@ public class Window implements NativeResource {
     }
 
     /**
-     * Adds the specified listener to the event list.
+     * Adds the specified listener to the event list with a priority of <code>0</code>.
      *
      * @param listener The listener to add
      */
     public void addListener(WindowEventListener listener) {
-        this.listeners.add(listener);
+        this.addListener(listener, 0);
+    }
+
+    /**
+     * Adds the specified listener to the event list. The listener will only be called for the events it overrides in {@link WindowEventListener}.
+     *
+     * @param listener The listener to add
+     * @param priority The priority of the listener. Listeners with a higher priority receive events first and can {@link #consumeEvent() consume} them
+     */
+    public void addListener(WindowEventListener listener, int priority) {
+        this.listeners.add(listener, priority);
         LOGGER.debug("Added listener: {}", listener.getClass().getName());
     }
 
     /**
-     * Removes the specified listener to the event list.
+     * Removes the specified listener to the event list. This is safe to call while an event is being dispatched.
      *
      * @param listener The listener to add
      */
     public void removeListener(WindowEventListener listener) {
-        this.listeners.remove(listener);
-        LOGGER.debug("Removed listener: {}", listener.getClass().getName());
+        if (this.listeners.remove(listener)) {
+            LOGGER.debug("Removed listener: {}", listener.getClass().getName());
+        }
+    }
+
+    @ApiStatus.Internal
+    WindowEventListener[] getListeners(WindowEventType type) {
+        return this.listeners.get(type);
+    }
+
+    /**
+     * Stops the event currently being dispatched from reaching any listeners with a lower priority than the caller. This should only be called from inside a {@link WindowEventListener} method.
+     */
+    public void consumeEvent() {
+        this.consumed = true;
     }
 
     /**
@@ -109,16 +155,24 @@ public class Window implements NativeResource {
         if (this.fullscreen) {
             monitor = this.windowManager.findBestMonitor(this);
             if (monitor != null) {
-                VideoMode mode = monitor.getCurrentMode();
+                VideoMode mode = this.getFullscreenMode(monitor);
+                this.beginGeometryWrite();
                 this.windowWidth = mode.width();
                 this.windowHeight = mode.height();
+                this.endGeometryWrite();
+                if (this.fullscreenMode != null) {
+                    this.backend.windowHint(GLFW_REFRESH_RATE, mode.refreshRate());
+                }
             }
         }
 
         this.title = title;
-        this.handle = glfwCreateWindow(this.windowWidth, this.windowHeight, title, monitor != null ? monitor.getHandle() : 0L, share);
+        this.handle = this.backend.createWindow(this.windowWidth, this.windowHeight, title, monitor != null ? monitor.getHandle() : 0L, share);
+        if (monitor != null && this.fullscreenMode != null) {
+            this.backend.windowHint(GLFW_REFRESH_RATE, GLFW_DONT_CARE);
+        }
         if (this.handle == 0L) {
-            throw new IllegalStateException("Failed to create window: " + title + ". " + WindowManager.getGLFWError());
+            throw new IllegalStateException("Failed to create window: " + title + ". " + this.backend.getError());
         }
 
         // Center on the screen
@@ -127,76 +181,306 @@ public class Window implements NativeResource {
         }
 
         // Focus
-        this.focused = true;
-        glfwRequestWindowAttention(this.handle);
+        this.backend.requestWindowAttention(this.handle);
 
         // Update framebuffer size
         try (MemoryStack stack = MemoryStack.stackPush()) {
             IntBuffer w = stack.mallocInt(1);
             IntBuffer h = stack.mallocInt(1);
-            glfwGetFramebufferSize(this.handle, w, h);
+            this.backend.getFramebufferSize(this.handle, w, h);
+            this.beginGeometryWrite();
+            this.focused = true;
             this.framebufferWidth = w.get();
             this.framebufferHeight = h.get();
+            this.endGeometryWrite();
         }
 
-        glfwMakeContextCurrent(this.handle);
+        // Windows created for APIs like Vulkan have no context to make current or swap
+        this.hasContext = this.backend.getWindowAttrib(this.handle, GLFW_CLIENT_API) != GLFW_NO_API;
+        this.appliedSwapInterval = -1;
+        if (this.hasContext) {
+            this.backend.makeContextCurrent(this.handle);
+        }
 
         LOGGER.debug("Initialized {}", this);
+        this.windowManager.markStartup(StartupTimings.Phase.FIRST_WINDOW_CREATED);
+
+        this.backend.setCallbacks(this.handle, this);
+
+        if (this.cursor != null) {
+            this.backend.setCursor(this.handle, this.cursor.getHandle());
+        }
+
+        return this;
+    }
+
+    private void setFullscreenFlag(boolean fullscreen) {
+        this.beginGeometryWrite();
+        this.fullscreen = fullscreen;
+        this.endGeometryWrite();
+    }
+
+    // Geometry is written by the main thread and read from any thread with a sequence lock. The sequence is odd while a write is in progress
+
+    private void beginGeometryWrite() {
+        this.geometrySequence++;
+        VarHandle.storeStoreFence();
+    }
+
+    private void endGeometryWrite() {
+        this.geometrySequence++;
+    }
+
+    // Native callbacks. These run for every input event, so they must not allocate or capture anything.
+
+    void onClose(long window) {
+        this.receive(WindowEventType.CLOSED, 0, 0, 0, 0, 0, null);
+    }
 
-        glfwSetWindowCloseCallback(this.handle, window -> {
-            this.closed = true;
-            this.listeners.forEach(listener -> listener.windowClosed(this));
-        });
-        glfwSetWindowPosCallback(this.handle, (window, x, y) -> {
-            this.x = x;
-            this.y = y;
-            this.listeners.forEach(listener -> listener.windowMoved(this, x, y));
-        });
-        glfwSetWindowSizeCallback(this.handle, (window, w, h) -> {
-            this.width = this.windowWidth = w;
-            this.height = this.windowHeight = h;
-            this.listeners.forEach(listener -> listener.windowResized(this, w, h));
-        });
-        glfwSetFramebufferSizeCallback(this.handle, (window, w, h) -> {
-            this.framebufferWidth = w;
-            this.framebufferHeight = h;
-            this.listeners.forEach(listener -> listener.framebufferResized(this, w, h));
-        });
-        glfwSetWindowFocusCallback(this.handle, (window, f) -> {
-            this.focused = f;
-            this.listeners.forEach(listener -> listener.focusChanged(this, f));
-        });
-        glfwSetDropCallback(this.handle, (window, count, names) -> {
-            Path[] paths = new Path[count];
-            for (int i = 0; i < paths.length; i++) {
-                paths[i] = Paths.get(GLFWDropCallback.getName(names, i));
+    void onMove(long window, int x, int y) {
+        this.receive(WindowEventType.MOVED, x, y, 0, 0, 0, null);
+    }
+
+    void onResize(long window, int width, int height) {
+        this.receive(WindowEventType.RESIZED, width, height, 0, 0, 0, null);
+    }
+
+    void onFramebufferResize(long window, int width, int height) {
+        this.receive(WindowEventType.FRAMEBUFFER_RESIZED, width, height, 0, 0, 0, null);
+    }
+
+    void onFocus(long window, boolean focused) {
+        this.receive(WindowEventType.FOCUS_CHANGED, focused ? 1 : 0, 0, 0, 0, 0, null);
+    }
+
+    void onDrop(long window, int count, long names) {
+        // Dropping files is rare enough that allocating the paths is fine
+        Path[] paths = new Path[count];
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = Paths.get(GLFWDropCallback.getName(names, i));
+        }
+        this.receive(WindowEventType.FILES_DROPPED, 0, 0, 0, 0, 0, paths);
+    }
+
+    void onChar(long window, int codePoint, int mods) {
+        this.receive(WindowEventType.CHAR_TYPED, codePoint, mods, 0, 0, 0, null);
+    }
+
+    void onKey(long window, int key, int scanCode, int action, int mods) {
+        if (action == GLFW_PRESS) {
+            this.receive(WindowEventType.KEY_PRESSED, key, scanCode, mods, 0, 0, null);
+        } else if (action == GLFW_RELEASE) {
+            this.receive(WindowEventType.KEY_RELEASED, key, scanCode, mods, 0, 0, null);
+        } else if (action == GLFW_REPEAT) {
+            this.receive(WindowEventType.KEY_REPEATED, key, scanCode, mods, 0, 0, null);
+        }
+    }
+
+    void onCursorPos(long window, double x, double y) {
+        this.receive(WindowEventType.MOUSE_MOVED, 0, 0, 0, x, y, null);
+    }
+
+    void onCursorEnter(long window, boolean entered) {
+        this.receive(WindowEventType.CURSOR_ENTERED, entered ? 1 : 0, 0, 0, 0, 0, null);
+    }
+
+    void onMouseButton(long window, int button, int action, int mods) {
+        if (action == GLFW_PRESS) {
+            this.receive(WindowEventType.MOUSE_PRESSED, button, mods, 0, 0, 0, null);
+        } else if (action == GLFW_RELEASE) {
+            this.receive(WindowEventType.MOUSE_RELEASED, button, mods, 0, 0, 0, null);
+        }
+    }
+
+    void onScroll(long window, double dx, double dy) {
+        this.receive(WindowEventType.MOUSE_SCROLLED, 0, 0, 0, dx, dy, null);
+    }
+
+    /**
+     * Handles an event as if it came from GLFW. The window state is updated, the event is recorded, and then either queued or dispatched to listeners.
+     * <br>
+     * If {@link #setCoalesceEvents(boolean) coalescing} is enabled, move and resize events are held until {@link #flushCoalescedEvents()}.
+     */
+    void receive(WindowEventType type, int i0, int i1, int i2, double d0, double d1, @Nullable Object payload) {
+        switch (type) {
+            case CLOSED -> {
+                this.closed = true;
+                RenderThread renderThread = this.renderThread;
+                if (renderThread != null) {
+                    renderThread.windowClosed();
+                }
+            }
+            case MOVED -> {
+                this.beginGeometryWrite();
+                this.x = i0;
+                this.y = i1;
+                this.endGeometryWrite();
+            }
+            case RESIZED -> {
+                this.beginGeometryWrite();
+                this.width = this.windowWidth = i0;
+                this.height = this.windowHeight = i1;
+                this.endGeometryWrite();
             }
-            this.listeners.forEach(listener -> listener.filesDropped(this, paths));
-        });
-        glfwSetCharModsCallback(this.handle, (window, codepoint, mods) -> this.listeners.forEach(listener -> listener.charTyped(this, codepoint, new KeyMods(mods))));
-        glfwSetKeyCallback(this.handle, (window, key, scancode, action, mods) -> {
-            KeyMods keyMods = new KeyMods(mods);
-            if (action == GLFW_PRESS) {
-                this.listeners.forEach(listener -> listener.keyPressed(this, key, scancode, keyMods));
-            } else if (action == GLFW_RELEASE) {
-                this.listeners.forEach(listener -> listener.keyReleased(this, key, scancode, keyMods));
-            } else if (action == GLFW_REPEAT) {
-                this.listeners.forEach(listener -> listener.keyRepeated(this, key, scancode, keyMods));
+            case FRAMEBUFFER_RESIZED -> {
+                this.beginGeometryWrite();
+                this.framebufferWidth = i0;
+                this.framebufferHeight = i1;
+                this.endGeometryWrite();
+                RenderThread renderThread = this.renderThread;
+                if (renderThread != null) {
+                    renderThread.framebufferResized(i0, i1);
+                }
             }
-        });
-        glfwSetCursorPosCallback(this.handle, (window, xpos, ypos) -> this.listeners.forEach(listener -> listener.mouseMoved(this, xpos, ypos)));
-        glfwSetCursorEnterCallback(this.handle, (window, entered) -> this.listeners.forEach(listener -> listener.cursorEntered(this, entered)));
-        glfwSetMouseButtonCallback(this.handle, (window, button, action, mods) -> {
-            KeyMods keyMods = new KeyMods(mods);
-            if (action == GLFW_PRESS) {
-                this.listeners.forEach(listener -> listener.mousePressed(this, button, keyMods));
-            } else if (action == GLFW_RELEASE) {
-                this.listeners.forEach(listener -> listener.mouseReleased(this, button, keyMods));
+            case FOCUS_CHANGED -> {
+                this.beginGeometryWrite();
+                this.focused = i0 != 0;
+                this.endGeometryWrite();
+                // Other applications may have changed the clipboard while this window was not focused
+                if (i0 != 0 && this.windowManager != null) {
+                    this.windowManager.getClipboard().invalidate();
+                }
             }
-        });
-        glfwSetScrollCallback(this.handle, (window, xoffset, yoffset) -> this.listeners.forEach(listener -> listener.mouseScrolled(this, xoffset, yoffset)));
+        }
 
-        return this;
+        this.receivedEvents++;
+        if (this.windowManager != null) {
+            this.windowManager.markEventReceived();
+        }
+
+        if (this.coalesceEvents) {
+            int bit = 1 << type.ordinal();
+            if ((COALESCED_EVENTS & bit) != 0) {
+                if ((this.pendingEvents & bit) != 0) {
+                    this.coalescedEventCount++;
+                }
+                this.pendingEvents |= bit;
+                return;
+            }
+        }
+
+        this.deliver(type, i0, i1, i2, d0, d1, payload);
+    }
+
+    /**
+     * Sends any move and resize events held by {@link #setCoalesceEvents(boolean) coalescing} with the latest position and sizes.
+     */
+    void flushCoalescedEvents() {
+        int pending = this.pendingEvents;
+        if (pending == 0) {
+            return;
+        }
+
+        this.pendingEvents = 0;
+        if ((pending & 1 << WindowEventType.MOVED.ordinal()) != 0) {
+            this.deliver(WindowEventType.MOVED, this.x, this.y, 0, 0, 0, null);
+        }
+        if ((pending & 1 << WindowEventType.RESIZED.ordinal()) != 0) {
+            this.deliver(WindowEventType.RESIZED, this.windowWidth, this.windowHeight, 0, 0, 0, null);
+        }
+        if ((pending & 1 << WindowEventType.FRAMEBUFFER_RESIZED.ordinal()) != 0) {
+            this.deliver(WindowEventType.FRAMEBUFFER_RESIZED, this.framebufferWidth, this.framebufferHeight, 0, 0, 0, null);
+        }
+    }
+
+    private void deliver(WindowEventType type, int i0, int i1, int i2, double d0, double d1, @Nullable Object payload) {
+        InputRecorder recorder = this.recorder;
+        if (recorder != null) {
+            recorder.record(this, type, i0, i1, i2, d0, d1, payload);
+        }
+
+        WindowEventQueue eventQueue = this.eventQueue;
+        if (eventQueue != null) {
+            eventQueue.publish(this, type, i0, i1, i2, d0, d1, payload);
+        } else {
+            this.dispatch(type, i0, i1, i2, d0, d1, payload);
+        }
+    }
+
+    /**
+     * Sends an event to every listener subscribed to it. See {@link WindowEventQueue.EventHandler} for how the parameters are used by each type.
+     * <br>
+     * Events can be fired recursively if a listener changes the window, so the consumed flag of the outer event is restored afterward.
+     */
+    void dispatch(WindowEventType type, int i0, int i1, int i2, double d0, double d1, @Nullable Object payload) {
+        WindowEventListener[] listeners = this.listeners.get(type);
+        if (listeners.length == 0) {
+            return;
+        }
+
+        long start = this.dispatchDepth++ == 0 ? System.nanoTime() : 0L;
+        boolean consumed = this.consumed;
+        this.consumed = false;
+        for (WindowEventListener listener : listeners) {
+            switch (type) {
+                case CLOSED -> listener.windowClosed(this);
+                case MOVED -> listener.windowMoved(this, i0, i1);
+                case RESIZED -> listener.windowResized(this, i0, i1);
+                case FRAMEBUFFER_RESIZED -> listener.framebufferResized(this, i0, i1);
+                case FOCUS_CHANGED -> listener.focusChanged(this, i0 != 0);
+                case FILES_DROPPED -> listener.filesDropped(this, (Path[]) payload);
+                case CHAR_TYPED -> listener.charTyped(this, i0, KeyMods.of(i1));
+                case KEY_PRESSED -> listener.keyPressed(this, i0, i1, KeyMods.of(i2));
+                case KEY_RELEASED -> listener.keyReleased(this, i0, i1, KeyMods.of(i2));
+                case KEY_REPEATED -> listener.keyRepeated(this, i0, i1, KeyMods.of(i2));
+                case MOUSE_MOVED -> listener.mouseMoved(this, d0, d1);
+                case CURSOR_ENTERED -> listener.cursorEntered(this, i0 != 0);
+                case MOUSE_PRESSED -> listener.mousePressed(this, i0, KeyMods.of(i1));
+                case MOUSE_RELEASED -> listener.mouseReleased(this, i0, KeyMods.of(i1));
+                case MOUSE_SCROLLED -> listener.mouseScrolled(this, d0, d1);
+            }
+            if (this.consumed) {
+                break;
+            }
+        }
+        this.consumed = consumed;
+
+        // Only time the outermost event so nested events are not counted twice
+        if (--this.dispatchDepth == 0) {
+            this.frameStatistics.addDispatchTime(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return The total number of events this window has received
+     */
+    long getReceivedEvents() {
+        return this.receivedEvents;
+    }
+
+    /**
+     * Marks the time input was last sampled for this window.
+     */
+    void setInputSampleTime(long inputSampleTime) {
+        this.inputSampleTime = inputSampleTime;
+    }
+
+    long getInputSampleTime() {
+        return this.inputSampleTime;
+    }
+
+    void setLatchEventCount(long latchEventCount) {
+        this.latchEventCount = latchEventCount;
+    }
+
+    long getLatchEventCount() {
+        return this.latchEventCount;
+    }
+
+    @ApiStatus.Internal
+    @Nullable
+    InputRecorder getRecorder() {
+        return this.recorder;
+    }
+
+    @ApiStatus.Internal
+    void setRecorder(@Nullable InputRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ApiStatus.Internal
+    void setEventQueue(@Nullable WindowEventQueue eventQueue) {
+        this.eventQueue = eventQueue;
     }
 
     /**
@@ -221,12 +505,95 @@ public class Window implements NativeResource {
         return keyboardHandler;
     }
 
+    /**
+     * <p>Moves rendering of this window to a new thread that owns its context. The context is released from the calling thread if it is current.</p>
+     * <p>Events are still received and sent to listeners on the main thread. Framebuffer resizes and close requests are handed to the renderer on the render thread. {@link WindowManager#update()} no longer presents this window, the render thread swaps buffers after each frame instead.</p>
+     *
+     * @param renderer The renderer to draw the window with
+     * @throws IllegalStateException If the window has not been created or already has a render thread
+     */
+    public void startRenderThread(WindowRenderer renderer) {
+        if (this.handle == 0L) {
+            throw new IllegalStateException("Window has not been created");
+        }
+        if (!this.hasContext) {
+            throw new IllegalStateException("Window has no context to render with");
+        }
+        if (this.renderThread != null) {
+            throw new IllegalStateException("Window already has a render thread");
+        }
+        if (this.backend.getCurrentContext() == this.handle) {
+            this.backend.makeContextCurrent(0L);
+        }
+        RenderThread renderThread = new RenderThread(this, renderer);
+        this.renderThread = renderThread;
+        this.renderThreadFailure = null;
+        renderThread.start();
+        LOGGER.debug("Started render thread for {}", this);
+    }
+
+    /**
+     * Stops the render thread after its current frame and waits for it to release the context. The context is not made current on the calling thread.
+     */
+    public void stopRenderThread() {
+        RenderThread renderThread = this.renderThread;
+        if (renderThread != null) {
+            renderThread.shutdown();
+            this.renderThread = null;
+            LOGGER.debug("Stopped render thread for {}", this);
+        }
+    }
+
+    @ApiStatus.Internal
+    synchronized void renderThreadCrashed(RenderThread renderThread, Throwable failure) {
+        if (this.renderThread == renderThread) {
+            this.renderThreadFailure = failure;
+            this.renderThread = null;
+        }
+    }
+
+    /**
+     * @return Whether this window is rendered on its own thread. This becomes <code>false</code> if the render thread crashes, so {@link WindowManager#update()} presents the window again
+     */
+    public boolean hasRenderThread() {
+        return this.renderThread != null;
+    }
+
+    /**
+     * @return The error that stopped the last render thread of this window or <code>null</code> if it has not crashed
+     */
+    public @Nullable Throwable getRenderThreadFailure() {
+        return this.renderThreadFailure;
+    }
+
     /**
      * Updates the contents of the window. Called by {@link WindowManager#update()} automatically.
+     * <br>
+     * This makes the context of this window current if it is not already.
      */
     public void swapBuffers() {
-        glfwSwapInterval(this.swapInterval);
-        glfwSwapBuffers(this.handle);
+        this.present(this.swapInterval);
+    }
+
+    /**
+     * Swaps buffers using the specified swap interval. The context is only made current and the interval is only set when they change.
+     */
+    void present(int swapInterval) {
+        if (this.handle == 0L || !this.hasContext) {
+            return;
+        }
+        if (this.backend.getCurrentContext() != this.handle) {
+            this.backend.makeContextCurrent(this.handle);
+        }
+        // The swap interval belongs to the context, so it only needs to be set again when it changes
+        if (this.appliedSwapInterval != swapInterval) {
+            this.backend.swapInterval(swapInterval);
+            this.appliedSwapInterval = swapInterval;
+        }
+        this.backend.swapBuffers(this.handle);
+        if (this.windowManager != null && !this.windowManager.getStartupTimings().isComplete()) {
+            this.windowManager.markStartup(StartupTimings.Phase.FIRST_FRAME_PRESENTED);
+        }
     }
 
     /**
@@ -238,15 +605,26 @@ public class Window implements NativeResource {
 
     @Override
     public void free() {
+        this.stopRenderThread();
         if (this.handle != 0) {
-            glfwFreeCallbacks(this.handle);
-            glfwDestroyWindow(this.handle);
+            this.backend.destroyWindow(this.handle);
         }
         this.handle = 0;
         this.closed = true;
+        if (this.cursor != null) {
+            this.cursor.users--;
+            this.cursor = null;
+        }
         this.windowManager.removeWindow(this);
     }
 
+    /**
+     * @return The backend this window is created with
+     */
+    public WindowBackend getBackend() {
+        return this.backend;
+    }
+
     /**
      * @return The GLFW id of the window
      */
@@ -303,6 +681,47 @@ public class Window implements NativeResource {
         return this.fullscreen;
     }
 
+    /**
+     * Reads the position, size, focus, and fullscreen state of this window as one consistent view. This is safe to call from any thread, never blocks the main thread, and does not allocate.
+     *
+     * @param geometry The geometry to fill
+     * @return The filled geometry
+     */
+    public WindowGeometry getGeometry(WindowGeometry geometry) {
+        int sequence;
+        do {
+            while (((sequence = this.geometrySequence) & 1) != 0) {
+                Thread.onSpinWait();
+            }
+            geometry.set(this.x, this.y, this.windowWidth, this.windowHeight, this.framebufferWidth, this.framebufferHeight, this.focused, this.fullscreen);
+            VarHandle.loadLoadFence();
+        } while (sequence != this.geometrySequence);
+        return geometry;
+    }
+
+    /**
+     * Reads the position, size, focus, and fullscreen state of this window as one consistent view. {@link #getGeometry(WindowGeometry)} should be used to avoid allocating every frame.
+     *
+     * @return A new geometry snapshot
+     */
+    public WindowGeometry getGeometry() {
+        return this.getGeometry(new WindowGeometry());
+    }
+
+    /**
+     * @return The video mode to switch to when this window is fullscreen or <code>null</code> to keep the current mode of the monitor
+     */
+    public @Nullable VideoModePreference getFullscreenMode() {
+        return this.fullscreenMode;
+    }
+
+    /**
+     * @return The cursor shown over this window or <code>null</code> for the default arrow
+     */
+    public @Nullable Cursor getCursor() {
+        return this.cursor;
+    }
+
     /**
      * @return The number of monitor frames to wait before continuing execution when {@link #swapBuffers()} is called
      */
@@ -310,6 +729,48 @@ public class Window implements NativeResource {
         return this.swapInterval;
     }
 
+    /**
+     * @return The frame timing statistics of this window
+     */
+    public FrameStatistics getFrameStatistics() {
+        return this.frameStatistics;
+    }
+
+    /**
+     * @return The limiter pacing this window or <code>null</code> if the window uses the frame rate of the window manager
+     */
+    public @Nullable FrameLimiter getFrameLimiter() {
+        return this.frameLimiter;
+    }
+
+    /**
+     * @return Whether this window has a client API context that can be made current and swapped
+     */
+    public boolean hasContext() {
+        return this.hasContext;
+    }
+
+    /**
+     * @return Whether move and resize events are coalesced into one event per frame
+     */
+    public boolean isCoalesceEvents() {
+        return this.coalesceEvents;
+    }
+
+    /**
+     * @return The number of move and resize events that were merged into a later event because of {@link #setCoalesceEvents(boolean) coalescing}
+     */
+    public long getCoalescedEventCount() {
+        return this.coalescedEventCount;
+    }
+
+    /**
+     * @return Whether late latching is enabled for this window
+     */
+    public boolean isLateLatch() {
+        return this.lateLatch;
+    }
+
     /**
      * @return Whether vsync is enabled
      */
@@ -339,10 +800,13 @@ public class Window implements NativeResource {
     }
 
     /**
+     * Reads the clipboard immediately. This can block for milliseconds on some platforms, so {@link Clipboard#read()} should be preferred.
+     *
      * @return The current string on the clipboard or <code>null</code> if there is nothing
+     * @see WindowManager#getClipboard()
      */
     public @Nullable String getClipboard() {
-        return glfwGetClipboardString(this.handle);
+        return this.backend.getClipboardString(this.handle);
     }
 
     /**
@@ -351,7 +815,7 @@ public class Window implements NativeResource {
      * @param fullscreen Whether to enter fullscreen
      */
     public void setFullscreen(boolean fullscreen) {
-        this.fullscreen = fullscreen;
+        this.setFullscreenFlag(fullscreen);
         if (this.handle == 0L) { // will be updated later
             return;
         }
@@ -359,28 +823,60 @@ public class Window implements NativeResource {
         try {
             Monitor monitor = this.windowManager.findBestMonitor(this);
             if (monitor == null) {
-                this.fullscreen = false;
+                this.setFullscreenFlag(false);
                 return;
             }
-            if (Platform.get() == Platform.MACOSX) {
+            if (this.backend.getPlatform() == GLFW_PLATFORM_COCOA) {
                 getNsWindow(this.handle).filter(Window::isInKioskMode).ifPresent(Window::toggleMacFullscreen);
             }
 
-            VideoMode mode = monitor.getCurrentMode();
             if (this.fullscreen) {
+                VideoMode mode = this.getFullscreenMode(monitor);
                 int w = this.width;
                 int h = this.height;
-                glfwSetWindowMonitor(this.handle, monitor.getHandle(), 0, 0, mode.width(), mode.height(), mode.refreshRate());
+                this.backend.setWindowMonitor(this.handle, monitor.getHandle(), 0, 0, mode.width(), mode.height(), mode.refreshRate());
                 this.width = w;
                 this.height = h;
             } else {
-                glfwSetWindowMonitor(this.handle, 0L, monitor.getX() + (mode.width() - this.width) / 2, monitor.getY() + (mode.height() - this.height) / 2, this.width, this.height, GLFW_DONT_CARE);
+                VideoMode mode = monitor.getCurrentMode();
+                this.backend.setWindowMonitor(this.handle, 0L, monitor.getX() + (mode.width() - this.width) / 2, monitor.getY() + (mode.height() - this.height) / 2, this.width, this.height, GLFW_DONT_CARE);
             }
         } catch (Exception e) {
             LOGGER.error("Failed to " + (fullscreen ? "enter" : "exit") + " fullscreen", e);
         }
     }
 
+    private VideoMode getFullscreenMode(Monitor monitor) {
+        if (this.fullscreenMode == null) {
+            return monitor.getCurrentMode();
+        }
+        VideoMode mode = monitor.findVideoMode(this.fullscreenMode);
+        return mode != null ? mode : monitor.getCurrentMode();
+    }
+
+    /**
+     * Sets the video mode to switch to when this window is fullscreen. If the window is already fullscreen, the new mode is applied immediately.
+     *
+     * @param preference The preferred mode or <code>null</code> to keep the current mode of the monitor
+     * @see Monitor#findVideoMode(VideoModePreference)
+     */
+    public void setFullscreenMode(@Nullable VideoModePreference preference) {
+        this.fullscreenMode = preference;
+        if (!this.fullscreen || this.handle == 0L) {
+            return;
+        }
+
+        Monitor monitor = this.windowManager.getMonitor(this.backend.getWindowMonitor(this.handle));
+        if (monitor != null) {
+            VideoMode mode = this.getFullscreenMode(monitor);
+            int w = this.width;
+            int h = this.height;
+            this.backend.setWindowMonitor(this.handle, monitor.getHandle(), 0, 0, mode.width(), mode.height(), mode.refreshRate());
+            this.width = w;
+            this.height = h;
+        }
+    }
+
     /**
      * Sets the number of monitor frames to wait before continuing execution when {@link #swapBuffers()} is called.
      *
@@ -390,6 +886,46 @@ public class Window implements NativeResource {
         this.swapInterval = Math.max(0, swapInterval);
     }
 
+    /**
+     * Limits how often this window is presented by {@link WindowManager#update()}, overriding the frame rate of the window manager.
+     *
+     * @param targetFrameRate The maximum frames per second or <code>0</code> to use the frame rate of the window manager
+     * @see WindowManager#setTargetFrameRate(double)
+     */
+    public void setTargetFrameRate(double targetFrameRate) {
+        if (targetFrameRate == 0) {
+            this.frameLimiter = null;
+            return;
+        }
+        if (this.frameLimiter == null) {
+            this.frameLimiter = new FrameLimiter(this.backend);
+        }
+        this.frameLimiter.setTargetFrameRate(targetFrameRate);
+    }
+
+    /**
+     * Enables late latching for this window. {@link WindowManager#latchInput()} measures how much newer the input it picks up for this window is, and {@link WindowManager#update()} no longer polls events before presenting once every window uses late latching.
+     *
+     * @param lateLatch Whether to use late latching
+     * @see WindowManager#latchInput()
+     */
+    public void setLateLatch(boolean lateLatch) {
+        this.lateLatch = lateLatch;
+    }
+
+    /**
+     * <p>Merges move, resize, and framebuffer resize events so listeners receive at most one of each per {@link WindowManager#update()}, carrying the final position and size. Dragging a window edge fires dozens of resize events per frame, so this avoids rebuilding render targets for sizes that are never drawn.</p>
+     * <p>The getters of this window are still updated immediately. Held events are sent after all other events polled in the same frame.</p>
+     *
+     * @param coalesceEvents Whether to coalesce move and resize events
+     */
+    public void setCoalesceEvents(boolean coalesceEvents) {
+        this.coalesceEvents = coalesceEvents;
+        if (!coalesceEvents) {
+            this.flushCoalescedEvents();
+        }
+    }
+
     /**
      * Sets the window to use vsync.
      *
@@ -399,6 +935,61 @@ public class Window implements NativeResource {
         this.swapInterval = vsync ? 1 : 0;
     }
 
+    /**
+     * Sets the cursor shown while the mouse is over this window. This does nothing if the cursor is already set, so it can be called every time the hovered element changes. Cursors set on a window are never evicted from the {@link CursorCache}.
+     *
+     * @param cursor The cursor to show or <code>null</code> to show the default arrow
+     */
+    public void setCursor(@Nullable Cursor cursor) {
+        if (this.cursor == cursor) {
+            return;
+        }
+        if (cursor != null) {
+            if (cursor.isFreed()) {
+                throw new IllegalStateException("Cursor has been freed: " + cursor);
+            }
+            cursor.users++;
+        }
+        if (this.cursor != null) {
+            this.cursor.users--;
+        }
+
+        this.cursor = cursor;
+        if (this.handle != 0L) {
+            this.backend.setCursor(this.handle, cursor != null ? cursor.getHandle() : 0L);
+        }
+    }
+
+    /**
+     * Sets the icon of this window. The system copies the pixels, so the icon can be freed afterward. This does nothing on macOS and Wayland, which do not support window icons. {@link #setMacIcon(InputStream)} should be used on macOS instead.
+     *
+     * @param icon The icon to use
+     * @throws IllegalStateException If the icon has been freed
+     */
+    public void setIcon(WindowIcon icon) {
+        // The cache can free an evicted icon from any thread, so hold it until GLFW has copied the pixels
+        synchronized (icon) {
+            if (icon.isFreed()) {
+                throw new IllegalStateException("Icon has been freed: " + icon);
+            }
+            int platform = this.backend.getPlatform();
+            if (this.handle != 0L && platform != GLFW_PLATFORM_COCOA && platform != GLFW_PLATFORM_WAYLAND) {
+                this.backend.setWindowIcon(this.handle, icon.getImages());
+            }
+        }
+    }
+
+    /**
+     * Sets the icon of this window once it has finished loading. The icon is applied on the main thread during {@link WindowManager#update()}.
+     *
+     * @param icon The icon being loaded
+     * @return A future completed once the icon has been applied
+     * @see IconCache#load(String, IconCache.ImageSource...)
+     */
+    public CompletableFuture<Void> setIcon(CompletableFuture<WindowIcon> icon) {
+        return icon.thenAcceptAsync(this::setIcon, this.windowManager::execute);
+    }
+
     /**
      * Updates the window title to the specified string.
      *
@@ -406,7 +997,7 @@ public class Window implements NativeResource {
      */
     public void setTitle(CharSequence title) {
         if (this.handle != 0L) {
-            glfwSetWindowTitle(this.handle, title);
+            this.backend.setWindowTitle(this.handle, title);
             this.title = title;
         }
     }
@@ -430,7 +1021,7 @@ public class Window implements NativeResource {
      */
     public void setPosition(int x, int y) {
         if (this.handle != 0L) {
-            glfwSetWindowPos(this.handle, x, y);
+            this.backend.setWindowPos(this.handle, x, y);
         }
     }
 
@@ -442,7 +1033,7 @@ public class Window implements NativeResource {
      */
     public void setSize(int width, int height) {
         if (this.handle != 0L) {
-            glfwSetWindowSize(this.handle, width, height);
+            this.backend.setWindowSize(this.handle, width, height);
         }
     }
 
@@ -454,7 +1045,7 @@ public class Window implements NativeResource {
     public void setClosing(boolean closing) {
         if (this.handle != 0L) {
             this.closed = closing;
-            glfwSetWindowShouldClose(this.handle, closing);
+            this.backend.setWindowShouldClose(this.handle, closing);
         }
     }
 
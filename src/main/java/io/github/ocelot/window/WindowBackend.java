@@ -0,0 +1,212 @@
+package io.github.ocelot.window;
+
+import io.github.ocelot.window.input.GamepadBackend;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFWImage;
+
+import java.nio.IntBuffer;
+
+/**
+ * <p>The native windowing system used by a {@link WindowManager}. Every window, monitor, cursor, and timer call goes through the backend of the manager that owns it.</p>
+ * <p>{@link #GLFW} is used normally. {@link HeadlessBackend} simulates everything in memory, so windows can be created and driven with input on machines without a display.</p>
+ * <p>Methods mirror the GLFW functions of the same name and must be called from the main thread unless GLFW allows otherwise.</p>
+ *
+ * @author Ocelot
+ * @see WindowManager#WindowManager(WindowBackend)
+ */
+public interface WindowBackend {
+
+    /**
+     * Calls GLFW directly.
+     */
+    WindowBackend GLFW = new GlfwBackend();
+
+    /**
+     * Initializes the backend.
+     *
+     * @return Whether initialization succeeded
+     */
+    boolean init();
+
+    /**
+     * Destroys all remaining windows and cursors and releases the backend.
+     */
+    void terminate();
+
+    /**
+     * Retrieves and clears the last error that occurred.
+     *
+     * @return The error description or <code>null</code> if there is no error
+     */
+    @Nullable String getError();
+
+    /**
+     * @return The GLFW id of the platform, such as <code>GLFW_PLATFORM_WIN32</code> or <code>GLFW_PLATFORM_NULL</code>
+     */
+    int getPlatform();
+
+    /**
+     * @return The backend to read joysticks with
+     */
+    GamepadBackend getGamepadBackend();
+
+    /**
+     * Sets the callback for monitors being connected and disconnected.
+     *
+     * @param callback The new callback or <code>null</code> to remove it
+     */
+    void setMonitorCallback(@Nullable MonitorCallback callback);
+
+    /**
+     * Sets the callback for joysticks being connected and disconnected.
+     *
+     * @param callback The new callback or <code>null</code> to remove it
+     */
+    void setJoystickCallback(@Nullable JoystickCallback callback);
+
+    // Events
+
+    void pollEvents();
+
+    void waitEvents();
+
+    void waitEventsTimeout(double timeout);
+
+    /**
+     * Wakes up a thread waiting for events. This is safe to call from any thread.
+     */
+    void postEmptyEvent();
+
+    // Timer
+
+    /**
+     * @return The current value of the timer in ticks. This is safe to call from any thread
+     */
+    long getTimerValue();
+
+    /**
+     * @return The number of timer ticks per second. This is safe to call from any thread
+     */
+    long getTimerFrequency();
+
+    // Monitors
+
+    /**
+     * @return The handles of all connected monitors
+     */
+    long[] getMonitors();
+
+    /**
+     * @return The handle of the primary monitor or <code>0</code> if no monitors are connected
+     */
+    long getPrimaryMonitor();
+
+    void getMonitorPos(long monitor, IntBuffer x, IntBuffer y);
+
+    @Nullable VideoMode getVideoMode(long monitor);
+
+    /**
+     * @param monitor The monitor to query
+     * @return Every video mode supported by the monitor, sorted from lowest to highest
+     */
+    VideoMode[] getVideoModes(long monitor);
+
+    // Windows
+
+    void defaultWindowHints();
+
+    void windowHint(int hint, int value);
+
+    long createWindow(int width, int height, CharSequence title, long monitor, long share);
+
+    /**
+     * Routes the native events of a window to its {@link Window}.
+     *
+     * @param window The handle of the window
+     * @param target The window to send events to
+     */
+    void setCallbacks(long window, Window target);
+
+    /**
+     * Destroys a window and frees its callbacks.
+     *
+     * @param window The handle of the window
+     */
+    void destroyWindow(long window);
+
+    int getWindowAttrib(long window, int attrib);
+
+    void getFramebufferSize(long window, IntBuffer width, IntBuffer height);
+
+    void requestWindowAttention(long window);
+
+    void setWindowTitle(long window, CharSequence title);
+
+    void setWindowPos(long window, int x, int y);
+
+    void setWindowSize(long window, int width, int height);
+
+    void setWindowShouldClose(long window, boolean value);
+
+    long getWindowMonitor(long window);
+
+    void setWindowMonitor(long window, long monitor, int x, int y, int width, int height, int refreshRate);
+
+    void setWindowIcon(long window, GLFWImage.Buffer images);
+
+    // Contexts
+
+    long getCurrentContext();
+
+    void makeContextCurrent(long window);
+
+    void swapInterval(int interval);
+
+    void swapBuffers(long window);
+
+    // Input
+
+    void setInputMode(long window, int mode, int value);
+
+    boolean rawMouseMotionSupported();
+
+    void setCursorPos(long window, double x, double y);
+
+    long createCursor(GLFWImage image, int xHot, int yHot);
+
+    long createStandardCursor(int shape);
+
+    void destroyCursor(long cursor);
+
+    void setCursor(long window, long cursor);
+
+    @Nullable String getClipboardString(long window);
+
+    void setClipboardString(long window, CharSequence text);
+
+    /**
+     * Called when a monitor is connected or disconnected.
+     */
+    @FunctionalInterface
+    interface MonitorCallback {
+
+        /**
+         * @param monitor The handle of the monitor
+         * @param event   <code>GLFW_CONNECTED</code> or <code>GLFW_DISCONNECTED</code>
+         */
+        void invoke(long monitor, int event);
+    }
+
+    /**
+     * Called when a joystick is connected or disconnected.
+     */
+    @FunctionalInterface
+    interface JoystickCallback {
+
+        /**
+         * @param jid   The id of the joystick
+         * @param event <code>GLFW_CONNECTED</code> or <code>GLFW_DISCONNECTED</code>
+         */
+        void invoke(int jid, int event);
+    }
+}
@@ -0,0 +1,382 @@
+package io.github.ocelot.window;
+
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.system.MemoryUtil;
+import org.lwjgl.system.NativeResource;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * <p>A fixed size ring buffer of window events stored off-heap as primitive records. When enabled with {@link WindowManager#enableEventQueue(int, OverflowPolicy)}, the GLFW callbacks only encode events into the queue and listeners are called when the queue is drained instead of during {@link WindowManager#update()}.</p>
+ * <p>Events are published by the thread polling events and can be drained by any single thread at any time. Listeners are called on the draining thread, so listeners that call back into GLFW must still be drained on the main thread.</p>
+ * <p>Window state such as the size and position is updated when the event is received, not when it is drained.</p>
+ * <p>Queues are owned by the {@link WindowManager} that created them. When a queue is replaced or disabled, it is retired instead of freed: the thread that last drained it receives the remaining events on its next drain, after which the queue frees itself and every later drain returns <code>0</code>. If the queue was only ever drained on the main thread, it is drained and freed immediately. Draining and freeing hold the same lock, so memory is never released while a drain is reading it.</p>
+ *
+ * @author Ocelot
+ */
+public final class WindowEventQueue implements NativeResource {
+
+    // Record layout
+    private static final int TYPE = 0;
+    private static final int INT_0 = 4;
+    private static final int WINDOW = 8;
+    private static final int INT_1 = 16;
+    private static final int INT_2 = 20;
+    private static final int DOUBLE_0 = 24;
+    private static final int DOUBLE_1 = 32;
+    private static final int TIMESTAMP = 40;
+    private static final int RECORD_SIZE = 48;
+
+    private static final WindowEventType[] TYPES = WindowEventType.values();
+    private static final EventHandler DISPATCH = (window, type, i0, i1, i2, d0, d1, payload, timestamp) -> window.dispatch(type, i0, i1, i2, d0, d1, payload);
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(WindowEventQueue.class, "head", long.class);
+            TAIL = lookup.findVarHandle(WindowEventQueue.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final OverflowPolicy overflowPolicy;
+    private final int capacity;
+    private final int mask;
+    private final long address;
+    private final Window[] windows;
+    private final Object[] payloads;
+
+    private volatile long head;
+    private volatile long tail;
+
+    private volatile long published;
+    private volatile long dropped;
+    private volatile long drained;
+    private volatile int highWaterMark;
+    private volatile boolean installed;
+    private volatile boolean retired;
+    private volatile boolean freed;
+    private Thread consumer;
+
+    WindowEventQueue(int capacity, OverflowPolicy overflowPolicy) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.overflowPolicy = overflowPolicy;
+        this.capacity = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.mask = this.capacity - 1;
+        this.address = MemoryUtil.nmemCallocChecked(this.capacity, RECORD_SIZE);
+        this.windows = new Window[this.capacity];
+        this.payloads = new Object[this.capacity];
+    }
+
+    /**
+     * Adds an event to the end of the queue. This must only be called by one thread at a time.
+     *
+     * @return Whether the event was added
+     * @throws IllegalStateException If the queue has been freed
+     */
+    boolean publish(Window window, WindowEventType type, int i0, int i1, int i2, double d0, double d1, @Nullable Object payload) {
+        this.checkFreed();
+        long tail = this.tail;
+        while (true) {
+            long head = this.head;
+            if (tail - head < this.capacity) {
+                break;
+            }
+
+            switch (this.overflowPolicy) {
+                case DROP_NEWEST -> {
+                    this.dropped++;
+                    return false;
+                }
+                case DROP_OLDEST -> {
+                    // The consumer may have taken the record in the meantime, in which case there is room now
+                    if (HEAD.compareAndSet(this, head, head + 1)) {
+                        this.dropped++;
+                    }
+                }
+                case BLOCK -> Thread.onSpinWait();
+            }
+        }
+
+        int slot = (int) (tail & this.mask);
+        long record = this.address + (long) slot * RECORD_SIZE;
+        MemoryUtil.memPutInt(record + TYPE, type.ordinal());
+        MemoryUtil.memPutInt(record + INT_0, i0);
+        MemoryUtil.memPutLong(record + WINDOW, window.getHandle());
+        MemoryUtil.memPutInt(record + INT_1, i1);
+        MemoryUtil.memPutInt(record + INT_2, i2);
+        MemoryUtil.memPutDouble(record + DOUBLE_0, d0);
+        MemoryUtil.memPutDouble(record + DOUBLE_1, d1);
+        MemoryUtil.memPutLong(record + TIMESTAMP, System.nanoTime());
+        this.windows[slot] = window;
+        this.payloads[slot] = payload;
+        TAIL.setRelease(this, tail + 1);
+
+        this.published++;
+        int size = (int) (tail + 1 - this.head);
+        if (size > this.highWaterMark) {
+            this.highWaterMark = size;
+        }
+        return true;
+    }
+
+    /**
+     * Dispatches all events currently in the queue to the listeners of their windows.
+     *
+     * @return The number of events dispatched
+     */
+    public int drain() {
+        return this.drain(DISPATCH, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Dispatches up to the specified number of events to the listeners of their windows.
+     *
+     * @param maxEvents The maximum number of events to dispatch
+     * @return The number of events dispatched
+     */
+    public int drain(int maxEvents) {
+        return this.drain(DISPATCH, maxEvents);
+    }
+
+    /**
+     * Passes up to the specified number of raw events to the handler instead of the window listeners. Only events already in the queue when this is called are drained, so a fast producer cannot keep the consumer in here forever.
+     *
+     * @param handler   The handler to pass events to
+     * @param maxEvents The maximum number of events to drain
+     * @return The number of events drained or <code>0</code> if the queue has been retired and all of its events were delivered
+     * @throws IllegalStateException If the queue was freed without being retired
+     */
+    public synchronized int drain(EventHandler handler, int maxEvents) {
+        if (this.freed) {
+            if (this.retired) {
+                return 0;
+            }
+            throw new IllegalStateException("Event queue has been freed");
+        }
+        this.consumer = Thread.currentThread();
+
+        long tail = (long) TAIL.getAcquire(this);
+        int count = 0;
+        while (count < maxEvents) {
+            long head = this.head;
+            if (head >= tail) {
+                break;
+            }
+
+            int slot = (int) (head & this.mask);
+            long record = this.address + (long) slot * RECORD_SIZE;
+            WindowEventType type = TYPES[MemoryUtil.memGetInt(record + TYPE)];
+            int i0 = MemoryUtil.memGetInt(record + INT_0);
+            int i1 = MemoryUtil.memGetInt(record + INT_1);
+            int i2 = MemoryUtil.memGetInt(record + INT_2);
+            double d0 = MemoryUtil.memGetDouble(record + DOUBLE_0);
+            double d1 = MemoryUtil.memGetDouble(record + DOUBLE_1);
+            long timestamp = MemoryUtil.memGetLong(record + TIMESTAMP);
+            Window window = this.windows[slot];
+            Object payload = this.payloads[slot];
+
+            if (this.overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                // The producer may have overwritten the record while it was being read, so only use it if the claim succeeds
+                if (!HEAD.compareAndSet(this, head, head + 1)) {
+                    continue;
+                }
+            } else {
+                HEAD.setRelease(this, head + 1);
+            }
+
+            handler.handle(window, type, i0, i1, i2, d0, d1, payload, timestamp);
+            count++;
+
+            // The handler may have retired the queue, which already delivered the rest
+            if (this.freed) {
+                break;
+            }
+        }
+        this.drained += count;
+        if (this.retired && !this.freed && this.head >= this.tail) {
+            this.release();
+        }
+        return count;
+    }
+
+    /**
+     * Marks this queue as installed in a {@link WindowManager}, which prevents it from being freed directly.
+     */
+    void install() {
+        this.installed = true;
+    }
+
+    /**
+     * Stops accepting events and hands the remaining ones to the consumer. Windows must no longer publish to this queue. If the calling thread is the consumer or nothing ever drained the queue, the remaining events are dispatched now and the queue is freed.
+     */
+    synchronized void retire() {
+        this.installed = false;
+        this.retired = true;
+        if (this.freed) {
+            return;
+        }
+        if (this.consumer == null || this.consumer == Thread.currentThread()) {
+            this.drain(DISPATCH, Integer.MAX_VALUE);
+        }
+        if (!this.freed && this.head >= this.tail) {
+            this.release();
+        }
+    }
+
+    private void release() {
+        this.freed = true;
+        MemoryUtil.nmemFree(this.address);
+    }
+
+    private void checkFreed() {
+        if (this.freed) {
+            throw new IllegalStateException("Event queue has been freed");
+        }
+    }
+
+    /**
+     * Resets the dropped, published, drained, and high water mark counters.
+     */
+    public void resetStatistics() {
+        this.published = 0;
+        this.dropped = 0;
+        this.drained = 0;
+        this.highWaterMark = 0;
+    }
+
+    /**
+     * @return The maximum number of events the queue can hold
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * @return The number of events currently waiting to be drained
+     */
+    public int size() {
+        return (int) Math.max(0, this.tail - this.head);
+    }
+
+    /**
+     * @return What happens when an event is received while the queue is full
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return this.overflowPolicy;
+    }
+
+    /**
+     * @return The number of events added to the queue
+     */
+    public long getPublishedCount() {
+        return this.published;
+    }
+
+    /**
+     * @return The number of events lost because the queue was full
+     */
+    public long getDroppedCount() {
+        return this.dropped;
+    }
+
+    /**
+     * @return The number of events drained from the queue
+     */
+    public long getDrainedCount() {
+        return this.drained;
+    }
+
+    /**
+     * @return The largest number of events that were waiting in the queue at once
+     */
+    public int getHighWaterMark() {
+        return this.highWaterMark;
+    }
+
+    /**
+     * @return Whether the queue has been replaced or disabled. Consumers can stop draining once this is <code>true</code> and {@link #isFreed()} is too
+     */
+    public boolean isRetired() {
+        return this.retired;
+    }
+
+    /**
+     * @return Whether the native memory of this queue has been freed
+     */
+    public boolean isFreed() {
+        return this.freed;
+    }
+
+    /**
+     * Releases the native memory of this queue, waiting for any drain in progress to finish. Calling this more than once does nothing.
+     *
+     * @throws IllegalStateException If the queue is still installed in a {@link WindowManager}. Use {@link WindowManager#disableEventQueue()} instead
+     */
+    @Override
+    public synchronized void free() {
+        if (this.installed) {
+            throw new IllegalStateException("Event queue is still in use. Disable it with the window manager instead");
+        }
+        if (!this.freed) {
+            this.release();
+        }
+    }
+
+    /**
+     * Receives raw events drained from a {@link WindowEventQueue}. The values of the parameters depend on the type:
+     * <table>
+     * <caption>Event Parameters</caption>
+     *     <tr><th>Type</th><th>i0</th><th>i1</th><th>i2</th><th>d0</th><th>d1</th><th>payload</th></tr>
+     *     <tr><td>MOVED, RESIZED, FRAMEBUFFER_RESIZED</td><td>x/width</td><td>y/height</td><td></td><td></td><td></td><td></td></tr>
+     *     <tr><td>FOCUS_CHANGED, CURSOR_ENTERED</td><td>1 if true</td><td></td><td></td><td></td><td></td><td></td></tr>
+     *     <tr><td>FILES_DROPPED</td><td></td><td></td><td></td><td></td><td></td><td>Path[]</td></tr>
+     *     <tr><td>CHAR_TYPED</td><td>code point</td><td>mods</td><td></td><td></td><td></td><td></td></tr>
+     *     <tr><td>KEY_PRESSED, KEY_RELEASED, KEY_REPEATED</td><td>key</td><td>scan code</td><td>mods</td><td></td><td></td><td></td></tr>
+     *     <tr><td>MOUSE_MOVED, MOUSE_SCROLLED</td><td></td><td></td><td></td><td>x</td><td>y</td><td></td></tr>
+     *     <tr><td>MOUSE_PRESSED, MOUSE_RELEASED</td><td>button</td><td>mods</td><td></td><td></td><td></td><td></td></tr>
+     * </table>
+     */
+    @FunctionalInterface
+    public interface EventHandler {
+
+        /**
+         * Handles a single event.
+         *
+         * @param window    The window the event was fired for
+         * @param type      The type of event
+         * @param i0        The first integer parameter
+         * @param i1        The second integer parameter
+         * @param i2        The third integer parameter
+         * @param d0        The first floating point parameter
+         * @param d1        The second floating point parameter
+         * @param payload   The object parameter
+         * @param timestamp The {@link System#nanoTime()} the event was received at
+         */
+        void handle(Window window, WindowEventType type, int i0, int i1, int i2, double d0, double d1, @Nullable Object payload, long timestamp);
+    }
+
+    /**
+     * What to do with an event when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Discards the event being added.
+         */
+        DROP_NEWEST,
+        /**
+         * Discards the oldest event in the queue to make room.
+         */
+        DROP_OLDEST,
+        /**
+         * Waits for a consumer to make room. The queue must be drained by another thread or this will never return.
+         */
+        BLOCK
+    }
+}
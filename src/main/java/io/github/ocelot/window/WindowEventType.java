@@ -0,0 +1,99 @@
+package io.github.ocelot.window;
+
+import io.github.ocelot.window.input.KeyMods;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+
+/**
+ * Each kind of event a {@link Window} can fire. Every type maps to exactly one method in {@link WindowEventListener}.
+ *
+ * @author Ocelot
+ */
+public enum WindowEventType {
+
+    /**
+     * @see WindowEventListener#windowClosed(Window)
+     */
+    CLOSED("windowClosed", Window.class),
+    /**
+     * @see WindowEventListener#windowMoved(Window, int, int)
+     */
+    MOVED("windowMoved", Window.class, int.class, int.class),
+    /**
+     * @see WindowEventListener#windowResized(Window, int, int)
+     */
+    RESIZED("windowResized", Window.class, int.class, int.class),
+    /**
+     * @see WindowEventListener#framebufferResized(Window, int, int)
+     */
+    FRAMEBUFFER_RESIZED("framebufferResized", Window.class, int.class, int.class),
+    /**
+     * @see WindowEventListener#focusChanged(Window, boolean)
+     */
+    FOCUS_CHANGED("focusChanged", Window.class, boolean.class),
+    /**
+     * @see WindowEventListener#filesDropped(Window, Path...)
+     */
+    FILES_DROPPED("filesDropped", Window.class, Path[].class),
+    /**
+     * @see WindowEventListener#charTyped(Window, int, KeyMods)
+     */
+    CHAR_TYPED("charTyped", Window.class, int.class, KeyMods.class),
+    /**
+     * @see WindowEventListener#keyPressed(Window, int, int, KeyMods)
+     */
+    KEY_PRESSED("keyPressed", Window.class, int.class, int.class, KeyMods.class),
+    /**
+     * @see WindowEventListener#keyReleased(Window, int, int, KeyMods)
+     */
+    KEY_RELEASED("keyReleased", Window.class, int.class, int.class, KeyMods.class),
+    /**
+     * @see WindowEventListener#keyRepeated(Window, int, int, KeyMods)
+     */
+    KEY_REPEATED("keyRepeated", Window.class, int.class, int.class, KeyMods.class),
+    /**
+     * @see WindowEventListener#mouseMoved(Window, double, double)
+     */
+    MOUSE_MOVED("mouseMoved", Window.class, double.class, double.class),
+    /**
+     * @see WindowEventListener#cursorEntered(Window, boolean)
+     */
+    CURSOR_ENTERED("cursorEntered", Window.class, boolean.class),
+    /**
+     * @see WindowEventListener#mousePressed(Window, int, KeyMods)
+     */
+    MOUSE_PRESSED("mousePressed", Window.class, int.class, KeyMods.class),
+    /**
+     * @see WindowEventListener#mouseReleased(Window, int, KeyMods)
+     */
+    MOUSE_RELEASED("mouseReleased", Window.class, int.class, KeyMods.class),
+    /**
+     * @see WindowEventListener#mouseScrolled(Window, double, double)
+     */
+    MOUSE_SCROLLED("mouseScrolled", Window.class, double.class, double.class);
+
+    private final String methodName;
+    private final Class<?>[] parameterTypes;
+
+    WindowEventType(String methodName, Class<?>... parameterTypes) {
+        this.methodName = methodName;
+        this.parameterTypes = parameterTypes;
+    }
+
+    /**
+     * Checks whether the specified listener class provides its own implementation of the method for this event.
+     *
+     * @param listenerClass The class of the listener to check
+     * @return Whether the listener class overrides the default method for this event
+     */
+    public boolean isHandledBy(Class<? extends WindowEventListener> listenerClass) {
+        try {
+            Method method = listenerClass.getMethod(this.methodName, this.parameterTypes);
+            return method.getDeclaringClass() != WindowEventListener.class;
+        } catch (NoSuchMethodException e) {
+            // Should be impossible, but deliver the event rather than silently dropping it
+            return true;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.ocelot.window;
+
+/**
+ * <p>A consistent view of the position, size, focus, and fullscreen state of a {@link Window}.</p>
+ * <p>Instances are filled by {@link Window#getGeometry(WindowGeometry)} and can be reused every frame, so reading geometry from another thread does not allocate.</p>
+ *
+ * @author Ocelot
+ */
+public final class WindowGeometry {
+
+    private int x;
+    private int y;
+    private int width;
+    private int height;
+    private int framebufferWidth;
+    private int framebufferHeight;
+    private boolean focused;
+    private boolean fullscreen;
+
+    void set(int x, int y, int width, int height, int framebufferWidth, int framebufferHeight, boolean focused, boolean fullscreen) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.framebufferWidth = framebufferWidth;
+        this.framebufferHeight = framebufferHeight;
+        this.focused = focused;
+        this.fullscreen = fullscreen;
+    }
+
+    /**
+     * @return The absolute x position of the window
+     */
+    public int getX() {
+        return this.x;
+    }
+
+    /**
+     * @return The absolute y position of the window
+     */
+    public int getY() {
+        return this.y;
+    }
+
+    /**
+     * @return The x size of the window
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * @return The y size of the window
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * @return The x size of the window framebuffer
+     */
+    public int getFramebufferWidth() {
+        return this.framebufferWidth;
+    }
+
+    /**
+     * @return The y size of the window framebuffer
+     */
+    public int getFramebufferHeight() {
+        return this.framebufferHeight;
+    }
+
+    /**
+     * @return Whether the window was focused
+     */
+    public boolean isFocused() {
+        return this.focused;
+    }
+
+    /**
+     * @return Whether the window was fullscreen
+     */
+    public boolean isFullscreen() {
+        return this.fullscreen;
+    }
+
+    @Override
+    public String toString() {
+        return "WindowGeometry[" + this.x + "," + this.y + " " + this.width + "x" + this.height + ", framebuffer=" + this.framebufferWidth + "x" + this.framebufferHeight + ", focused=" + this.focused + ", fullscreen=" + this.fullscreen + "]";
+    }
+}
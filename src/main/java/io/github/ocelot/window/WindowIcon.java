@@ -0,0 +1,118 @@
+package io.github.ocelot.window;
+
+import org.lwjgl.glfw.GLFWImage;
+import org.lwjgl.stb.STBImage;
+import org.lwjgl.system.NativeResource;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>A set of decoded icon images stored off-heap as RGBA pixels. The system picks the image closest to the size it needs, so sets usually contain several resolutions such as 16, 32, and 48 pixels.</p>
+ * <p>Icons are shared by every window that uses them and are freed by the {@link IconCache} that loaded them.</p>
+ *
+ * @author Ocelot
+ * @see Window#setIcon(WindowIcon)
+ */
+public final class WindowIcon implements NativeResource {
+
+    private final String name;
+    private final GLFWImage.Buffer images;
+    private final ByteBuffer[] pixels;
+    private final long size;
+    private volatile boolean freed;
+
+    /**
+     * @param name    The name the icon was loaded with
+     * @param pixels  The RGBA pixels of each image, allocated by {@link STBImage}. The icon takes ownership of them
+     * @param widths  The width of each image in pixels
+     * @param heights The height of each image in pixels
+     */
+    WindowIcon(String name, ByteBuffer[] pixels, int[] widths, int[] heights) {
+        this.name = name;
+        this.images = GLFWImage.calloc(pixels.length);
+        this.pixels = pixels;
+
+        long size = 0;
+        for (int i = 0; i < pixels.length; i++) {
+            this.images.get(i).set(widths[i], heights[i], pixels[i]);
+            size += pixels[i].capacity();
+        }
+        this.size = size;
+    }
+
+    /**
+     * @return The GLFW images of this icon
+     */
+    GLFWImage.Buffer getImages() {
+        return this.images;
+    }
+
+    /**
+     * @return The name this icon was loaded with
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return The number of images in this icon
+     */
+    public int getImageCount() {
+        return this.images.capacity();
+    }
+
+    /**
+     * @param index The index of the image
+     * @return The width of that image in pixels
+     */
+    public int getWidth(int index) {
+        return this.images.get(index).width();
+    }
+
+    /**
+     * @param index The index of the image
+     * @return The height of that image in pixels
+     */
+    public int getHeight(int index) {
+        return this.images.get(index).height();
+    }
+
+    /**
+     * @param index The index of the image
+     * @return A read-only view of the RGBA pixels of that image
+     */
+    public ByteBuffer getPixels(int index) {
+        return this.pixels[index].asReadOnlyBuffer();
+    }
+
+    /**
+     * @return The number of bytes of native memory used by pixels
+     */
+    public long getSize() {
+        return this.size;
+    }
+
+    /**
+     * @return Whether the native memory of this icon has been freed
+     */
+    public boolean isFreed() {
+        return this.freed;
+    }
+
+    @Override
+    public synchronized void free() {
+        if (this.freed) {
+            return;
+        }
+        this.freed = true;
+        for (ByteBuffer pixels : this.pixels) {
+            STBImage.stbi_image_free(pixels);
+        }
+        this.images.free();
+    }
+
+    @Override
+    public String toString() {
+        return "WindowIcon[" + this.name + ", images=" + this.images.capacity() + ", " + this.size + " bytes]";
+    }
+}
@@ -1,20 +1,21 @@
 package io.github.ocelot.window;
 
+import io.github.ocelot.window.input.GamepadManager;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
-import org.lwjgl.PointerBuffer;
-import org.lwjgl.glfw.GLFWErrorCallback;
-import org.lwjgl.glfw.GLFWMonitorCallback;
-import org.lwjgl.system.MemoryStack;
-import org.lwjgl.system.MemoryUtil;
 import org.lwjgl.system.NativeResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 
 import static org.lwjgl.glfw.GLFW.*;
 
@@ -26,73 +27,522 @@ import static org.lwjgl.glfw.GLFW.*;
 public class WindowManager implements NativeResource {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WindowManager.class);
+    private static final double EVENT_LOOP_TIMEOUT = 0.1;
 
-    private final Map<Long, Monitor> monitors;
-    private final Set<Window> windows;
+    private final WindowBackend backend;
+    private volatile MonitorIndex monitors;
+    private final List<Window> windows;
+    private final Collection<Window> windowsView;
+    private Window vsyncWindow;
+    private final FrameLimiter frameLimiter;
+    private final GamepadManager gamepads;
+    private final Clipboard clipboard;
+    private final IconCache iconCache;
+    private final CursorCache cursorCache;
+    private final Queue<Runnable> tasks;
+    private final AtomicBoolean redrawRequested;
+    private final AtomicLong redrawDeadline;
+    private UpdateMode updateMode;
+    private long maxIdleTime;
+    private boolean eventReceived;
+    private WindowEventQueue eventQueue;
+    private final List<WindowEventQueue> retiredEventQueues;
+    private final StartupTimings startupTimings;
 
     public WindowManager() {
-        this.monitors = new HashMap<>();
-        this.windows = new HashSet<>();
+        this(WindowBackend.GLFW);
+    }
+
+    /**
+     * Creates a window manager that runs on the specified backend instead of GLFW.
+     *
+     * @param backend The backend to create windows and read monitors with
+     * @see HeadlessBackend
+     */
+    public WindowManager(WindowBackend backend) {
+        this.backend = backend;
+        this.startupTimings = new StartupTimings();
+        this.monitors = MonitorIndex.EMPTY;
+        this.windows = new ArrayList<>();
+        this.windowsView = Collections.unmodifiableList(this.windows);
+        this.redrawRequested = new AtomicBoolean();
+        this.redrawDeadline = new AtomicLong(Long.MAX_VALUE);
+        this.updateMode = UpdateMode.CONTINUOUS;
+        this.iconCache = new IconCache();
+        this.cursorCache = new CursorCache(backend);
+        this.tasks = new ConcurrentLinkedQueue<>();
+        this.retiredEventQueues = new ArrayList<>();
 
-        // Initialize GLFW
-        String preError = getGLFWError();
+        // Initialize the backend
+        String preError = backend.getError();
         if (preError != null) {
             throw new IllegalStateException("GLFW error before init: " + preError);
         }
-        GLFWErrorCallback old = glfwSetErrorCallback((error, description) -> LOGGER.error(String.format("GLFW error during init: [0x%X]%s", error, MemoryUtil.memUTF8(description))));
-        if (!glfwInit()) {
-            glfwTerminate();
+        if (!backend.init()) {
             throw new RuntimeException("Failed to initialize GLFW.");
         }
-        GLFWErrorCallback o = glfwSetErrorCallback(old);
-        if (o != null) {
-            o.free();
-        }
+        this.startupTimings.mark(StartupTimings.Phase.GLFW_INIT);
 
-        GLFWMonitorCallback callback = glfwSetMonitorCallback((monitor, event) -> {
+        this.frameLimiter = new FrameLimiter(backend);
+        this.clipboard = new Clipboard(() -> backend.getClipboardString(0L), text -> backend.setClipboardString(0L, text), this::requestRedraw);
+
+        backend.setMonitorCallback((monitor, event) -> {
+            this.eventReceived = true;
             if (event == GLFW_CONNECTED) {
-                Monitor m = new Monitor(monitor);
-                this.monitors.put(monitor, m);
+                Monitor m = new Monitor(backend, monitor);
+                this.monitors = this.monitors.with(m, backend.getPrimaryMonitor());
                 LOGGER.debug("Monitor {} connected", m);
             } else if (event == GLFW_DISCONNECTED) {
-                Monitor m = this.monitors.remove(monitor);
+                Monitor m = this.monitors.get(monitor);
+                this.monitors = this.monitors.without(monitor, backend.getPrimaryMonitor());
                 LOGGER.debug("Monitor {} disconnected", m);
             }
         });
-        if (callback != null) {
-            callback.free();
-        }
 
-        PointerBuffer monitors = glfwGetMonitors();
-        if (monitors != null) {
-            for (int i = 0; i < monitors.limit(); ++i) {
-                long handle = monitors.get(i);
-                this.monitors.put(handle, new Monitor(handle));
+        this.gamepads = new GamepadManager(backend.getGamepadBackend());
+        backend.setJoystickCallback((jid, event) -> {
+            this.eventReceived = true;
+            this.gamepads.joystickChanged(jid, event);
+        });
+        this.startupTimings.mark(StartupTimings.Phase.GAMEPADS);
+
+        long[] monitors = backend.getMonitors();
+        if (monitors.length > 0) {
+            Monitor[] connected = new Monitor[monitors.length];
+            for (int i = 0; i < connected.length; ++i) {
+                connected[i] = new Monitor(backend, monitors[i]);
             }
+            this.monitors = new MonitorIndex(connected, backend.getPrimaryMonitor(), this.monitors.getVersion() + 1);
         }
+        this.startupTimings.mark(StartupTimings.Phase.MONITORS);
     }
 
     /**
      * @return The current GLFW error or <code>null</code> if there currently isn't one
      */
     public static @Nullable String getGLFWError() {
-        try (MemoryStack stack = MemoryStack.stackPush()) {
-            PointerBuffer pointer = stack.mallocPointer(1);
-            int error = glfwGetError(pointer);
-            if (error == GLFW_NO_ERROR) {
-                return null;
+        return WindowBackend.GLFW.getError();
+    }
+
+    /**
+     * <p>Polls window events and updates all windows. If {@link #enableEventQueue(int, WindowEventQueue.OverflowPolicy) queued mode} is enabled, listeners are not called until the queue is drained.</p>
+     * <p>In {@link UpdateMode#EVENT_DRIVEN event driven} mode, this presents all windows and then blocks until an event is received, a redraw is requested, or the maximum idle time passes.</p>
+     * <p>If every window uses {@link Window#setLateLatch(boolean) late latching}, events are not polled before presenting, since that input could only be shown next frame anyway and {@link #latchInput()} picks it up sooner. GLFW polls the events of all windows at once, so as long as any window does not latch late, events are still polled before presenting for every window.</p>
+     * <p>Move and resize events held by {@link Window#setCoalesceEvents(boolean) coalescing} are sent once all events have been polled. Then queued {@link Clipboard} requests are serviced, loaded {@link Window#setIcon(CompletableFuture) icons} are applied, and gamepads are polled. Gamepad input does not wake up {@link UpdateMode#EVENT_DRIVEN event driven} mode, so a {@link #setMaxIdleTime(double) maximum idle time} should be set when gamepads are used.</p>
+     */
+    public void update() {
+        if (this.updateMode == UpdateMode.EVENT_DRIVEN) {
+            this.present();
+            this.waitForRedraw();
+            this.flushCoalescedEvents();
+            this.clipboard.update();
+            this.runTasks();
+            this.gamepads.poll();
+            return;
+        }
+
+        if (!this.isLateLatching(true)) {
+            this.pollEvents();
+        }
+        this.present();
+        this.pollEvents();
+        this.flushCoalescedEvents();
+        this.clipboard.update();
+        this.runTasks();
+        this.gamepads.poll();
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = this.tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                LOGGER.error("Error running main thread task", t);
             }
-            return "[0x%X] %s".formatted(error, MemoryUtil.memUTF8(pointer.get(0)));
         }
     }
 
     /**
-     * Polls window events and updates all windows.
+     * Runs a task on the main thread during the next {@link #update()}. This is safe to call from any thread.
      */
-    public void update() {
-        glfwPollEvents();
-        this.windows.forEach(Window::swapBuffers);
-        glfwPollEvents();
+    @ApiStatus.Internal
+    void execute(Runnable task) {
+        this.tasks.add(task);
+        this.requestRedraw();
+    }
+
+    private void flushCoalescedEvents() {
+        for (int i = 0; i < this.windows.size(); i++) {
+            this.windows.get(i).flushCoalescedEvents();
+        }
+    }
+
+    /**
+     * <p>Polls events again just before rendering anything that depends on the most recent input, such as the camera or cursor. Input that arrived while the frame was being simulated is dispatched now instead of on the next frame.</p>
+     * <p>For each window with {@link Window#setLateLatch(boolean) late latching} enabled that received new input, the time since input was last sampled is recorded in {@link FrameStatistics#getLatchSavings()}. This does nothing if no window uses late latching.</p>
+     * <p>The frame pipeline is then: {@link #update()} presents the previous frame and polls, the application simulates, calls this, renders, and calls {@link #update()} again.</p>
+     */
+    public void latchInput() {
+        if (!this.isLateLatching(false)) {
+            return;
+        }
+
+        for (int i = 0; i < this.windows.size(); i++) {
+            Window window = this.windows.get(i);
+            window.setLatchEventCount(window.getReceivedEvents());
+        }
+        long start = System.nanoTime();
+        this.backend.pollEvents();
+        long time = System.nanoTime() - start;
+        for (int i = 0; i < this.windows.size(); i++) {
+            Window window = this.windows.get(i);
+            window.getFrameStatistics().addPollTime(time);
+            if (window.isLateLatch() && window.getReceivedEvents() != window.getLatchEventCount()) {
+                window.getFrameStatistics().addLatchSaving(start - window.getInputSampleTime());
+            }
+            window.setInputSampleTime(start);
+        }
+    }
+
+    /**
+     * @param all Whether every window must use late latching instead of any window
+     * @return Whether windows use late latching. This is <code>false</code> if there are no windows
+     */
+    private boolean isLateLatching(boolean all) {
+        for (int i = 0; i < this.windows.size(); i++) {
+            if (this.windows.get(i).isLateLatch() != all) {
+                return !all;
+            }
+        }
+        return all && !this.windows.isEmpty();
+    }
+
+    private void waitForRedraw() {
+        this.eventReceived = false;
+        long idleDeadline = this.maxIdleTime > 0 ? System.nanoTime() + this.maxIdleTime : Long.MAX_VALUE;
+        while (!this.redrawRequested.getAndSet(false)) {
+            long now = System.nanoTime();
+            long redrawDeadline = this.redrawDeadline.get();
+            if (now >= redrawDeadline) {
+                this.redrawDeadline.compareAndSet(redrawDeadline, Long.MAX_VALUE);
+                break;
+            }
+
+            long deadline = Math.min(idleDeadline, redrawDeadline);
+            if (now >= deadline) {
+                break;
+            }
+            if (deadline == Long.MAX_VALUE) {
+                this.backend.waitEvents();
+            } else {
+                this.backend.waitEventsTimeout((deadline - now) / 1_000_000_000.0);
+            }
+
+            // Empty events only wake the loop up so deadlines can be checked again
+            if (this.eventReceived) {
+                return;
+            }
+        }
+
+        // Nothing was dispatched while waiting, so pump events without blocking or constant redraws would starve input
+        this.pollEvents();
+    }
+
+    /**
+     * Requests that the next {@link #update()} in {@link UpdateMode#EVENT_DRIVEN event driven} mode returns immediately so a new frame can be drawn. This is safe to call from any thread.
+     */
+    public void requestRedraw() {
+        this.redrawRequested.set(true);
+        this.wakeUp();
+    }
+
+    /**
+     * Requests a redraw after the specified delay in {@link UpdateMode#EVENT_DRIVEN event driven} mode. If several redraws are scheduled, the earliest one is used. This is safe to call from any thread.
+     *
+     * @param delay The number of seconds to wait before the next frame
+     */
+    public void requestRedraw(double delay) {
+        long deadline = System.nanoTime() + (long) (Math.max(0, delay) * 1_000_000_000L);
+        this.redrawDeadline.accumulateAndGet(deadline, Math::min);
+        this.wakeUp();
+    }
+
+    /**
+     * Wakes up the main thread if it is waiting for events. This is safe to call from any thread.
+     */
+    public void wakeUp() {
+        this.backend.postEmptyEvent();
+    }
+
+    /**
+     * Sets how {@link #update()} waits for the next frame.
+     *
+     * @param updateMode The new update mode
+     */
+    public void setUpdateMode(UpdateMode updateMode) {
+        this.updateMode = updateMode;
+    }
+
+    /**
+     * Sets the longest {@link #update()} will wait for an event in {@link UpdateMode#EVENT_DRIVEN event driven} mode.
+     *
+     * @param maxIdleTime The maximum number of seconds to wait or <code>0</code> to wait indefinitely
+     */
+    public void setMaxIdleTime(double maxIdleTime) {
+        this.maxIdleTime = (long) (Math.max(0, maxIdleTime) * 1_000_000_000L);
+    }
+
+    /**
+     * @return How {@link #update()} waits for the next frame
+     */
+    public UpdateMode getUpdateMode() {
+        return this.updateMode;
+    }
+
+    /**
+     * @return The longest {@link #update()} will wait for an event in seconds or <code>0</code> if it waits indefinitely
+     */
+    public double getMaxIdleTime() {
+        return this.maxIdleTime / 1_000_000_000.0;
+    }
+
+    @ApiStatus.Internal
+    void markEventReceived() {
+        this.eventReceived = true;
+    }
+
+    /**
+     * <p>Runs the event pump on the calling thread until the condition is no longer met. This must be called from the main thread.</p>
+     * <p>When every window renders on its own thread, this blocks waiting for events instead of polling, so the main thread only wakes up to dispatch input. Otherwise this calls {@link #update()} repeatedly.</p>
+     *
+     * @param running Whether the loop should keep running. This is checked after every batch of events
+     * @see Window#startRenderThread(WindowRenderer)
+     */
+    public void runEventLoop(BooleanSupplier running) {
+        while (running.getAsBoolean()) {
+            if (this.isFullyThreaded()) {
+                long start = System.nanoTime();
+                this.backend.waitEventsTimeout(EVENT_LOOP_TIMEOUT);
+                long time = System.nanoTime() - start;
+                for (int i = 0; i < this.windows.size(); i++) {
+                    this.windows.get(i).getFrameStatistics().addPollTime(time);
+                }
+                this.flushCoalescedEvents();
+                this.clipboard.update();
+                this.runTasks();
+                this.gamepads.poll();
+            } else {
+                this.update();
+            }
+        }
+    }
+
+    private boolean isFullyThreaded() {
+        for (int i = 0; i < this.windows.size(); i++) {
+            if (!this.windows.get(i).hasRenderThread()) {
+                return false;
+            }
+        }
+        return !this.windows.isEmpty();
+    }
+
+    private void pollEvents() {
+        long start = System.nanoTime();
+        this.backend.pollEvents();
+        long time = System.nanoTime() - start;
+        for (int i = 0; i < this.windows.size(); i++) {
+            Window window = this.windows.get(i);
+            window.getFrameStatistics().addPollTime(time);
+            window.setInputSampleTime(start);
+        }
+    }
+
+    /**
+     * Presents every window that is due. The focused window is presented first and the rest in the order they were created. Only one window waits for vsync, since waiting on every window would divide the frame rate by the number of windows.
+     */
+    private void present() {
+        // Wait for the earliest deadline. Windows without their own limiter use the global one. An uncapped window is always due, so nothing waits
+        long deadline = this.windows.isEmpty() ? this.frameLimiter.getDeadline() : Long.MAX_VALUE;
+        boolean uncapped = false;
+        for (int i = 0; i < this.windows.size(); i++) {
+            Window window = this.windows.get(i);
+            if (window.hasRenderThread()) {
+                continue;
+            }
+            FrameLimiter limiter = window.getFrameLimiter();
+            long windowDeadline = limiter != null ? limiter.getDeadline() : this.frameLimiter.getDeadline();
+            if (windowDeadline == Long.MAX_VALUE) {
+                uncapped = true;
+                break;
+            }
+            deadline = Math.min(deadline, windowDeadline);
+        }
+        if (!uncapped && deadline != Long.MAX_VALUE) {
+            this.frameLimiter.waitUntil(deadline);
+        }
+
+        long now = this.backend.getTimerValue();
+        boolean due = this.frameLimiter.isDue(now);
+        if (due) {
+            this.frameLimiter.frameCompleted(now);
+        }
+
+        Window focused = null;
+        for (int i = 0; i < this.windows.size(); i++) {
+            Window window = this.windows.get(i);
+            if (window.isFocused()) {
+                focused = window;
+                break;
+            }
+        }
+        Window vsync = this.getVsyncWindow(focused);
+
+        // Presenting switches contexts, so put back whatever the application had current
+        long context = this.backend.getCurrentContext();
+        if (focused != null) {
+            this.present(focused, vsync, now, due);
+        }
+        for (int i = 0; i < this.windows.size(); i++) {
+            Window window = this.windows.get(i);
+            if (window != focused) {
+                this.present(window, vsync, now, due);
+            }
+        }
+        if (this.backend.getCurrentContext() != context) {
+            this.backend.makeContextCurrent(context);
+        }
+    }
+
+    private void present(Window window, @Nullable Window vsync, long now, boolean due) {
+        if (window.hasRenderThread()) {
+            return;
+        }
+        FrameLimiter limiter = window.getFrameLimiter();
+        if (limiter == null ? !due : !limiter.isDue(now)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        window.present(window == vsync ? window.getSwapInterval() : 0);
+        long end = System.nanoTime();
+        window.getFrameStatistics().framePresented(end, end - start);
+        if (limiter != null) {
+            limiter.frameCompleted(now);
+        }
+    }
+
+    private @Nullable Window getVsyncWindow(@Nullable Window focused) {
+        if (this.vsyncWindow != null) {
+            return this.vsyncWindow;
+        }
+        if (focused != null && focused.isVsync() && !focused.hasRenderThread()) {
+            return focused;
+        }
+        for (int i = 0; i < this.windows.size(); i++) {
+            Window window = this.windows.get(i);
+            if (window.isVsync() && !window.hasRenderThread()) {
+                return window;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sets the only window that will wait for vsync when presented. All other windows are presented immediately.
+     *
+     * @param vsyncWindow The window to wait for vsync on or <code>null</code> to use the focused window, or the first window with vsync enabled if that window does not use vsync
+     */
+    public void setVsyncWindow(@Nullable Window vsyncWindow) {
+        this.vsyncWindow = vsyncWindow;
+    }
+
+    /**
+     * @return The window chosen to wait for vsync or <code>null</code> if it is picked automatically
+     */
+    public @Nullable Window getVsyncWindow() {
+        return this.vsyncWindow;
+    }
+
+    /**
+     * Limits how often {@link #update()} presents windows. Windows can override this with {@link Window#setTargetFrameRate(double)}.
+     *
+     * @param targetFrameRate The maximum frames per second or <code>0</code> for no limit
+     */
+    public void setTargetFrameRate(double targetFrameRate) {
+        this.frameLimiter.setTargetFrameRate(targetFrameRate);
+    }
+
+    /**
+     * @return The limiter used to pace windows without their own frame rate
+     */
+    public FrameLimiter getFrameLimiter() {
+        return this.frameLimiter;
+    }
+
+    /**
+     * @return How long each phase of startup took
+     */
+    public StartupTimings getStartupTimings() {
+        return this.startupTimings;
+    }
+
+    @ApiStatus.Internal
+    void markStartup(StartupTimings.Phase phase) {
+        if (this.startupTimings.mark(phase)) {
+            LOGGER.debug("Startup phase {} completed: {}", phase, this.startupTimings);
+        }
+    }
+
+    /**
+     * @return The backend windows are created with
+     */
+    public WindowBackend getBackend() {
+        return this.backend;
+    }
+
+    /**
+     * @return The cache of decoded window icons shared by all windows
+     */
+    public IconCache getIconCache() {
+        return this.iconCache;
+    }
+
+    /**
+     * @return The cache of cursors shared by all windows
+     */
+    public CursorCache getCursorCache() {
+        return this.cursorCache;
+    }
+
+    /**
+     * @return The clipboard serviced every {@link #update()}
+     */
+    public Clipboard getClipboard() {
+        return this.clipboard;
+    }
+
+    /**
+     * @return The gamepads polled every {@link #update()}
+     */
+    public GamepadManager getGamepads() {
+        return this.gamepads;
+    }
+
+    /**
+     * @return A view of all windows created by this manager that have not been freed
+     */
+    public Collection<Window> getWindows() {
+        return this.windowsView;
+    }
+
+    /**
+     * Resets the frame statistics of every window.
+     */
+    public void resetFrameStatistics() {
+        for (int i = 0; i < this.windows.size(); i++) {
+            this.windows.get(i).getFrameStatistics().reset();
+        }
     }
 
     /**
@@ -105,6 +555,7 @@ public class WindowManager implements NativeResource {
      */
     public Window create(int width, int height, boolean fullscreen) {
         Window window = new Window(this, width, height, fullscreen);
+        window.setEventQueue(this.eventQueue);
         LOGGER.debug("Created {}", window);
         this.windows.add(window);
         return window;
@@ -138,13 +589,106 @@ public class WindowManager implements NativeResource {
         return this.create(width, height, fullscreen).create(title, share);
     }
 
+    /**
+     * <p>Switches all windows to queued mode. Events received while polling are stored in the returned queue and listeners are only called when it is drained.</p>
+     * <p>If queued mode is already enabled, the existing queue is {@link WindowEventQueue retired} and replaced. Its remaining events are delivered by the next drain on the thread that was draining it.</p>
+     * <p>The returned queue is owned by this manager and cannot be freed directly. It frees itself once it is retired and empty, and any queue still waiting for its consumer is freed with this manager.</p>
+     *
+     * @param capacity       The maximum number of events that can be waiting at once. Rounded up to the next power of two
+     * @param overflowPolicy What to do with events received while the queue is full
+     * @return The new event queue
+     */
+    public WindowEventQueue enableEventQueue(int capacity, WindowEventQueue.OverflowPolicy overflowPolicy) {
+        WindowEventQueue eventQueue = new WindowEventQueue(capacity, overflowPolicy);
+        this.setEventQueue(eventQueue);
+        return eventQueue;
+    }
+
+    /**
+     * Switches all windows back to calling listeners while polling events. The queue is {@link WindowEventQueue retired}, so any events still in it are delivered by the thread that was draining it, or immediately if that is the calling thread.
+     */
+    public void disableEventQueue() {
+        this.setEventQueue(null);
+    }
+
+    /**
+     * @return The queue events are currently sent to or <code>null</code> if listeners are called while polling
+     */
+    public @Nullable WindowEventQueue getEventQueue() {
+        return this.eventQueue;
+    }
+
+    // Only queues created by enableEventQueue are ever set here, so the manager owns every one of them
+    private void setEventQueue(@Nullable WindowEventQueue eventQueue) {
+        WindowEventQueue old = this.eventQueue;
+        if (eventQueue != null) {
+            eventQueue.install();
+        }
+        this.eventQueue = eventQueue;
+        this.windows.forEach(window -> window.setEventQueue(eventQueue));
+        this.retiredEventQueues.removeIf(WindowEventQueue::isFreed);
+        if (old != null) {
+            // Windows no longer publish to the old queue, so its consumer can finish it without a second thread draining
+            old.retire();
+            if (!old.isFreed()) {
+                this.retiredEventQueues.add(old);
+            }
+        }
+    }
+
+    @ApiStatus.Internal
+    void addMonitor(Monitor monitor) {
+        this.monitors = this.monitors.with(monitor, this.backend.getPrimaryMonitor());
+    }
+
     @ApiStatus.Internal
     void removeWindow(Window window) {
         this.windows.remove(window);
+        if (this.vsyncWindow == window) {
+            this.vsyncWindow = null;
+        }
     }
 
     /**
-     * Retrieves the monitor with the specified id.
+     * Queries GLFW again for the position and current video mode of every monitor. Monitors are otherwise only updated when they are connected, so this should be called after the display configuration changes. Every monitor is replaced with a new instance, so monitors retrieved before this call keep their old values. This must be called from the main thread.
+     */
+    public void refreshMonitors() {
+        // Published monitors are shared with other threads, so each refresh gets new instances instead of changing the old ones
+        MonitorIndex monitors = this.monitors;
+        Monitor[] refreshed = new Monitor[monitors.size()];
+        for (int i = 0; i < refreshed.length; i++) {
+            refreshed[i] = new Monitor(this.backend, monitors.at(i).getHandle());
+        }
+        this.monitors = monitors.rebuild(refreshed, this.backend.getPrimaryMonitor());
+    }
+
+    /**
+     * Retrieves all connected monitors. The returned list is an immutable snapshot that is safe to use from any thread and never changes. This does not allocate.
+     *
+     * @return All connected monitors in the order they were connected
+     */
+    public List<Monitor> getMonitors() {
+        return this.monitors.getMonitors();
+    }
+
+    /**
+     * @return The primary monitor or <code>null</code> if no monitors are connected. This is safe to call from any thread
+     */
+    public @Nullable Monitor getPrimaryMonitor() {
+        return this.monitors.getPrimary();
+    }
+
+    /**
+     * Retrieves the number of times monitors have been connected, disconnected, or {@link #refreshMonitors() refreshed}. Caches of monitor information can compare this to tell if they are out of date. It should be read before reading any monitors.
+     *
+     * @return The current monitor version
+     */
+    public long getMonitorVersion() {
+        return this.monitors.getVersion();
+    }
+
+    /**
+     * Retrieves the monitor with the specified id. This is safe to call from any thread.
      *
      * @param handle The handle of the monitor
      * @return The monitor with that id or <code>null</code> if no monitor could be found
@@ -154,61 +698,48 @@ public class WindowManager implements NativeResource {
     }
 
     /**
-     * Finds the best monitor to use for fullscreen based on how much each monitor covers the window.
+     * Finds the best monitor to use for fullscreen based on how much each monitor covers the window. Monitor bounds are cached when monitors are connected or disconnected, so this does not allocate.
      *
      * @param window The window to test
      * @return The monitor the window best fits on or <code>null</code> if no monitor could be found
      */
     public @Nullable Monitor findBestMonitor(Window window) {
-        long windowMonitor = window.getHandle() != 0L ? glfwGetWindowMonitor(window.getHandle()) : 0L;
+        MonitorIndex monitors = this.monitors;
+        long windowMonitor = window.getHandle() != 0L ? this.backend.getWindowMonitor(window.getHandle()) : 0L;
         if (windowMonitor != 0L) {
-            return this.getMonitor(windowMonitor);
-        }
-
-        int windowMinX = window.getX();
-        int windowMaxX = windowMinX + window.getWindowWidth();
-        int windowMinY = window.getY();
-        int windowMaxY = windowMinY + window.getWindowHeight();
-        int bestArea = -1;
-        Monitor bestMonitor = null;
-        long primaryMonitor = glfwGetPrimaryMonitor();
-
-        for (Monitor monitor : this.monitors.values()) {
-            int minX = monitor.getX();
-            int maxX = minX + monitor.getCurrentMode().width();
-            int minY = monitor.getY();
-            int maxY = minY + monitor.getCurrentMode().height();
-            int t = clamp(windowMinX, minX, maxX);
-            int u = clamp(windowMaxX, minX, maxX);
-            int v = clamp(windowMinY, minY, maxY);
-            int w = clamp(windowMaxY, minY, maxY);
-            int xArea = Math.max(0, u - t);
-            int yArea = Math.max(0, w - v);
-            int area = xArea * yArea;
-
-            // If the new monitor has the most window area, then try to use that one
-            if (area > bestArea) {
-                bestMonitor = monitor;
-                bestArea = area;
-            } else if (area == bestArea && primaryMonitor == monitor.getHandle()) {
-                bestMonitor = monitor;
-            }
+            return monitors.get(windowMonitor);
         }
 
-        return bestMonitor;
-    }
-
-    private static int clamp(int value, int min, int max) {
-        return value < min ? min : Math.min(value, max);
+        int x = window.getX();
+        int y = window.getY();
+        return monitors.findBest(x, y, x + window.getWindowWidth(), y + window.getWindowHeight());
     }
 
     @Override
     public void free() {
-        GLFWMonitorCallback callback = glfwSetMonitorCallback(null);
-        if (callback != null) {
-            callback.free();
-        }
-        Set.copyOf(this.windows).forEach(Window::free);
-        glfwTerminate();
+        this.backend.setMonitorCallback(null);
+        this.backend.setJoystickCallback(null);
+        this.gamepads.free();
+        this.iconCache.free();
+        List.copyOf(this.windows).forEach(Window::free);
+        this.cursorCache.free();
+        this.setEventQueue(null);
+        this.retiredEventQueues.forEach(WindowEventQueue::free);
+        this.retiredEventQueues.clear();
+        this.backend.terminate();
+    }
+
+    /**
+     * How {@link WindowManager#update()} waits between frames.
+     */
+    public enum UpdateMode {
+        /**
+         * Polls events and presents every frame. Best for applications that are always animating.
+         */
+        CONTINUOUS,
+        /**
+         * Blocks until an event is received, a redraw is requested, or the maximum idle time passes. Best for tools that are idle most of the time.
+         */
+        EVENT_DRIVEN
     }
 }
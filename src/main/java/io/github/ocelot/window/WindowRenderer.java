@@ -0,0 +1,52 @@
+package io.github.ocelot.window;
+
+/**
+ * Draws a window on its own render thread. All methods are called on the render thread, which owns the context of the window for as long as it runs.
+ *
+ * @author Ocelot
+ * @see Window#startRenderThread(WindowRenderer)
+ */
+@FunctionalInterface
+public interface WindowRenderer {
+
+    /**
+     * Called once after the context has been made current on the render thread. Graphics capabilities should be created here.
+     *
+     * @param window The window being rendered
+     */
+    default void init(Window window) {
+    }
+
+    /**
+     * Called before each frame. The buffers are swapped after this returns.
+     *
+     * @param window The window being rendered
+     */
+    void render(Window window);
+
+    /**
+     * Called before a frame when the framebuffer size changed. Only the most recent size is reported if the framebuffer was resized several times since the last frame.
+     *
+     * @param window The window being rendered
+     * @param width  The new x size of the framebuffer
+     * @param height The new y size of the framebuffer
+     */
+    default void framebufferResized(Window window, int width, int height) {
+    }
+
+    /**
+     * Called before a frame when the user requested the window close. The render thread keeps running until the window is freed or the render thread is stopped.
+     *
+     * @param window The window being rendered
+     */
+    default void windowClosed(Window window) {
+    }
+
+    /**
+     * Called once before the render thread releases the context and exits.
+     *
+     * @param window The window being rendered
+     */
+    default void free(Window window) {
+    }
+}
@@ -0,0 +1,173 @@
+package io.github.ocelot.window.input;
+
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWGamepadState;
+import org.lwjgl.system.NativeResource;
+
+import java.util.Arrays;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * <p>The state of a single joystick slot in a {@link GamepadManager}. Instances are reused when joysticks are reconnected.</p>
+ * <p>Stick axes range from <code>-1</code> to <code>1</code> and trigger axes from <code>0</code> to <code>1</code> after deadzone filtering. Button edges are relative to the previous {@link GamepadManager#poll()}.</p>
+ *
+ * @author Ocelot
+ */
+public final class Gamepad implements NativeResource {
+
+    static final int BUTTON_COUNT = GLFW_GAMEPAD_BUTTON_LAST + 1;
+    static final int AXIS_COUNT = GLFW_GAMEPAD_AXIS_LAST + 1;
+
+    private final int jid;
+    private final float[] axes;
+    private final GLFWGamepadState state;
+    private String name;
+    private boolean connected;
+    private boolean gamepad;
+    private int buttons;
+    private int pressed;
+    private int released;
+
+    Gamepad(int jid) {
+        this.jid = jid;
+        this.axes = new float[AXIS_COUNT];
+        this.state = GLFWGamepadState.calloc();
+    }
+
+    void connect(@Nullable String name, boolean gamepad) {
+        this.name = name;
+        this.connected = true;
+        this.gamepad = gamepad;
+    }
+
+    void disconnect() {
+        this.connected = false;
+        this.gamepad = false;
+        this.buttons = 0;
+        this.pressed = 0;
+        this.released = 0;
+        Arrays.fill(this.axes, 0.0F);
+        this.state.clear();
+    }
+
+    /**
+     * Updates the buttons from the current state and compares them to the previous poll.
+     *
+     * @return A mask of the buttons that changed
+     */
+    int updateButtons() {
+        int buttons = 0;
+        for (int i = 0; i < BUTTON_COUNT; i++) {
+            if (this.state.buttons(i) == GLFW_PRESS) {
+                buttons |= 1 << i;
+            }
+        }
+        int changed = buttons ^ this.buttons;
+        this.pressed = changed & buttons;
+        this.released = changed & ~buttons;
+        this.buttons = buttons;
+        return changed;
+    }
+
+    /**
+     * Sets a filtered axis value.
+     *
+     * @return Whether the value changed
+     */
+    boolean setAxis(int axis, float value) {
+        if (this.axes[axis] == value) {
+            return false;
+        }
+        this.axes[axis] = value;
+        return true;
+    }
+
+    void clearEdges() {
+        this.pressed = 0;
+        this.released = 0;
+    }
+
+    GLFWGamepadState getState() {
+        return this.state;
+    }
+
+    /**
+     * @return The id of the joystick slot
+     */
+    public int getJoystickId() {
+        return this.jid;
+    }
+
+    /**
+     * @return The human-readable name of the joystick or <code>null</code> if it has never been connected
+     */
+    public @Nullable String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return Whether a joystick is connected in this slot
+     */
+    public boolean isConnected() {
+        return this.connected;
+    }
+
+    /**
+     * @return Whether the joystick has a gamepad mapping. Joysticks without one never report buttons or axes
+     */
+    public boolean isGamepad() {
+        return this.gamepad;
+    }
+
+    /**
+     * @param button The {@link GLFW#GLFW_GAMEPAD_BUTTON_A gamepad button} to check
+     * @return Whether the button is held down
+     */
+    public boolean isButtonDown(int button) {
+        return (this.buttons & 1 << button) != 0;
+    }
+
+    /**
+     * @param button The {@link GLFW#GLFW_GAMEPAD_BUTTON_A gamepad button} to check
+     * @return Whether the button was pressed during the last poll
+     */
+    public boolean wasButtonPressed(int button) {
+        return (this.pressed & 1 << button) != 0;
+    }
+
+    /**
+     * @param button The {@link GLFW#GLFW_GAMEPAD_BUTTON_A gamepad button} to check
+     * @return Whether the button was released during the last poll
+     */
+    public boolean wasButtonReleased(int button) {
+        return (this.released & 1 << button) != 0;
+    }
+
+    /**
+     * @param axis The {@link GLFW#GLFW_GAMEPAD_AXIS_LEFT_X gamepad axis} to get
+     * @return The value of the axis after deadzone filtering
+     */
+    public float getAxis(int axis) {
+        return this.axes[axis];
+    }
+
+    /**
+     * @param axis The {@link GLFW#GLFW_GAMEPAD_AXIS_LEFT_X gamepad axis} to get
+     * @return The value reported by the joystick from <code>-1</code> to <code>1</code> without filtering
+     */
+    public float getRawAxis(int axis) {
+        return this.state.axes(axis);
+    }
+
+    @Override
+    public void free() {
+        this.state.free();
+    }
+
+    @Override
+    public String toString() {
+        return "Gamepad[jid=" + this.jid + ", name=" + this.name + ", connected=" + this.connected + "]";
+    }
+}
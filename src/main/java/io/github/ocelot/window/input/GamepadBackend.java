@@ -0,0 +1,67 @@
+package io.github.ocelot.window.input;
+
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFWGamepadState;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * Reads joystick state for a {@link GamepadManager}. {@link #GLFW} is used normally, but other implementations can stand in for real controllers.
+ *
+ * @author Ocelot
+ */
+public interface GamepadBackend {
+
+    /**
+     * Reads joysticks through GLFW. Must be used from the main thread.
+     */
+    GamepadBackend GLFW = new GamepadBackend() {
+        @Override
+        public boolean isPresent(int jid) {
+            return glfwJoystickPresent(jid);
+        }
+
+        @Override
+        public boolean isGamepad(int jid) {
+            return glfwJoystickIsGamepad(jid);
+        }
+
+        @Override
+        public @Nullable String getName(int jid) {
+            String name = glfwGetGamepadName(jid);
+            return name != null ? name : glfwGetJoystickName(jid);
+        }
+
+        @Override
+        public boolean getState(int jid, GLFWGamepadState state) {
+            return glfwGetGamepadState(jid, state);
+        }
+    };
+
+    /**
+     * @param jid The id of the joystick
+     * @return Whether a joystick is connected with that id
+     */
+    boolean isPresent(int jid);
+
+    /**
+     * @param jid The id of the joystick
+     * @return Whether the joystick has a gamepad mapping
+     */
+    boolean isGamepad(int jid);
+
+    /**
+     * @param jid The id of the joystick
+     * @return The human-readable name of the joystick or <code>null</code> if it is not connected
+     */
+    @Nullable String getName(int jid);
+
+    /**
+     * Reads the current gamepad state of a joystick.
+     *
+     * @param jid   The id of the joystick
+     * @param state The state to write into
+     * @return Whether the joystick is connected and has a gamepad mapping
+     */
+    boolean getState(int jid, GLFWGamepadState state);
+}
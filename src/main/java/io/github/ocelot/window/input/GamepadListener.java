@@ -0,0 +1,55 @@
+package io.github.ocelot.window.input;
+
+import org.lwjgl.glfw.GLFW;
+
+/**
+ * Listens to gamepad changes from a {@link GamepadManager}.
+ *
+ * @author Ocelot
+ */
+public interface GamepadListener {
+
+    /**
+     * Called when a joystick is connected.
+     *
+     * @param gamepad The gamepad that was connected
+     */
+    default void gamepadConnected(Gamepad gamepad) {
+    }
+
+    /**
+     * Called when a joystick is disconnected.
+     *
+     * @param gamepad The gamepad that was disconnected
+     */
+    default void gamepadDisconnected(Gamepad gamepad) {
+    }
+
+    /**
+     * Called when a button is pressed.
+     *
+     * @param gamepad The gamepad that changed
+     * @param button  The {@link GLFW#GLFW_GAMEPAD_BUTTON_A gamepad button} pressed
+     */
+    default void buttonPressed(Gamepad gamepad, int button) {
+    }
+
+    /**
+     * Called when a button is released.
+     *
+     * @param gamepad The gamepad that changed
+     * @param button  The {@link GLFW#GLFW_GAMEPAD_BUTTON_A gamepad button} released
+     */
+    default void buttonReleased(Gamepad gamepad, int button) {
+    }
+
+    /**
+     * Called when an axis changes after deadzone filtering.
+     *
+     * @param gamepad The gamepad that changed
+     * @param axis    The {@link GLFW#GLFW_GAMEPAD_AXIS_LEFT_X gamepad axis} that moved
+     * @param value   The new filtered value of the axis
+     */
+    default void axisMoved(Gamepad gamepad, int axis, float value) {
+    }
+}
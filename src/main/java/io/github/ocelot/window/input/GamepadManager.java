@@ -0,0 +1,243 @@
+package io.github.ocelot.window.input;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWGamepadState;
+import org.lwjgl.system.NativeResource;
+
+import java.util.Arrays;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * <p>Tracks every joystick slot and polls gamepad state once per frame.</p>
+ * <p>Each slot reads into its own preallocated {@link GLFWGamepadState}, and button and axis changes are found by comparing against the previous poll, so polling never allocates. Stick axes use a radial deadzone and triggers use a linear one, both rescaled so values start at <code>0</code> just outside the deadzone.</p>
+ *
+ * @author Ocelot
+ */
+public class GamepadManager implements NativeResource {
+
+    private static final int JOYSTICK_COUNT = GLFW_JOYSTICK_LAST + 1;
+    private static final GamepadListener[] NO_LISTENERS = new GamepadListener[0];
+
+    private final GamepadBackend backend;
+    private final Gamepad[] gamepads;
+    private GamepadListener[] listeners;
+    private int connected;
+    private float stickDeadzone;
+    private float triggerDeadzone;
+
+    public GamepadManager(GamepadBackend backend) {
+        this.backend = backend;
+        this.gamepads = new Gamepad[JOYSTICK_COUNT];
+        this.listeners = NO_LISTENERS;
+        this.stickDeadzone = 0.1F;
+        this.triggerDeadzone = 0.05F;
+        for (int jid = 0; jid < JOYSTICK_COUNT; jid++) {
+            this.gamepads[jid] = new Gamepad(jid);
+            if (backend.isPresent(jid)) {
+                this.gamepads[jid].connect(backend.getName(jid), backend.isGamepad(jid));
+                this.connected |= 1 << jid;
+            }
+        }
+    }
+
+    /**
+     * Reads the state of every connected gamepad and notifies listeners of any changes since the last poll.
+     */
+    public void poll() {
+        int connected = this.connected;
+        while (connected != 0) {
+            int jid = Integer.numberOfTrailingZeros(connected);
+            connected &= connected - 1;
+
+            Gamepad gamepad = this.gamepads[jid];
+            if (!gamepad.isGamepad() || !this.backend.getState(jid, gamepad.getState())) {
+                gamepad.clearEdges();
+                continue;
+            }
+            this.update(gamepad);
+        }
+    }
+
+    private void update(Gamepad gamepad) {
+        GLFWGamepadState state = gamepad.getState();
+
+        int changed = gamepad.updateButtons();
+        while (changed != 0) {
+            int button = Integer.numberOfTrailingZeros(changed);
+            changed &= changed - 1;
+            boolean down = gamepad.isButtonDown(button);
+            for (GamepadListener listener : this.listeners) {
+                if (down) {
+                    listener.buttonPressed(gamepad, button);
+                } else {
+                    listener.buttonReleased(gamepad, button);
+                }
+            }
+        }
+
+        this.updateStick(gamepad, state, GLFW_GAMEPAD_AXIS_LEFT_X, GLFW_GAMEPAD_AXIS_LEFT_Y);
+        this.updateStick(gamepad, state, GLFW_GAMEPAD_AXIS_RIGHT_X, GLFW_GAMEPAD_AXIS_RIGHT_Y);
+        this.updateTrigger(gamepad, state, GLFW_GAMEPAD_AXIS_LEFT_TRIGGER);
+        this.updateTrigger(gamepad, state, GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER);
+    }
+
+    private void updateStick(Gamepad gamepad, GLFWGamepadState state, int xAxis, int yAxis) {
+        float x = state.axes(xAxis);
+        float y = state.axes(yAxis);
+        float magnitude = (float) Math.sqrt(x * x + y * y);
+        if (magnitude <= this.stickDeadzone) {
+            x = 0;
+            y = 0;
+        } else {
+            float scale = Math.min(1.0F, (magnitude - this.stickDeadzone) / (1.0F - this.stickDeadzone)) / magnitude;
+            x *= scale;
+            y *= scale;
+        }
+        this.setAxis(gamepad, xAxis, x);
+        this.setAxis(gamepad, yAxis, y);
+    }
+
+    private void updateTrigger(Gamepad gamepad, GLFWGamepadState state, int axis) {
+        // Triggers rest at -1, so remap them to 0-1 before applying the deadzone
+        float value = (state.axes(axis) + 1.0F) * 0.5F;
+        value = value <= this.triggerDeadzone ? 0 : Math.min(1.0F, (value - this.triggerDeadzone) / (1.0F - this.triggerDeadzone));
+        this.setAxis(gamepad, axis, value);
+    }
+
+    private void setAxis(Gamepad gamepad, int axis, float value) {
+        if (gamepad.setAxis(axis, value)) {
+            for (GamepadListener listener : this.listeners) {
+                listener.axisMoved(gamepad, axis, value);
+            }
+        }
+    }
+
+    /**
+     * Called when a joystick is connected or disconnected.
+     *
+     * @param jid   The id of the joystick
+     * @param event {@link GLFW#GLFW_CONNECTED} or {@link GLFW#GLFW_DISCONNECTED}
+     */
+    @ApiStatus.Internal
+    public void joystickChanged(int jid, int event) {
+        if (jid < 0 || jid >= JOYSTICK_COUNT) {
+            return;
+        }
+
+        Gamepad gamepad = this.gamepads[jid];
+        if (event == GLFW_CONNECTED) {
+            gamepad.connect(this.backend.getName(jid), this.backend.isGamepad(jid));
+            this.connected |= 1 << jid;
+            for (GamepadListener listener : this.listeners) {
+                listener.gamepadConnected(gamepad);
+            }
+        } else if (event == GLFW_DISCONNECTED && gamepad.isConnected()) {
+            this.connected &= ~(1 << jid);
+            for (GamepadListener listener : this.listeners) {
+                listener.gamepadDisconnected(gamepad);
+            }
+            gamepad.disconnect();
+        }
+    }
+
+    /**
+     * Adds a listener for gamepad changes. Listeners are stored in an array that is replaced on every change, so listeners can be added and removed while they are being notified. A change made during a notification takes effect from the next one.
+     *
+     * @param listener The listener to add
+     */
+    public void addListener(GamepadListener listener) {
+        GamepadListener[] listeners = Arrays.copyOf(this.listeners, this.listeners.length + 1);
+        listeners[this.listeners.length] = listener;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Removes a listener for gamepad changes.
+     *
+     * @param listener The listener to remove
+     */
+    public void removeListener(GamepadListener listener) {
+        GamepadListener[] listeners = this.listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i].equals(listener)) {
+                GamepadListener[] updated = new GamepadListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, updated.length - i);
+                this.listeners = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sets the deadzones applied to axis values.
+     *
+     * @param stickDeadzone   The radius of the stick deadzone from <code>0</code> to <code>1</code>
+     * @param triggerDeadzone The trigger deadzone from <code>0</code> to <code>1</code>
+     */
+    public void setDeadzones(float stickDeadzone, float triggerDeadzone) {
+        if (stickDeadzone < 0 || stickDeadzone >= 1 || triggerDeadzone < 0 || triggerDeadzone >= 1) {
+            throw new IllegalArgumentException("Deadzones must be between 0 and 1");
+        }
+        this.stickDeadzone = stickDeadzone;
+        this.triggerDeadzone = triggerDeadzone;
+    }
+
+    /**
+     * @return The radius of the stick deadzone
+     */
+    public float getStickDeadzone() {
+        return this.stickDeadzone;
+    }
+
+    /**
+     * @return The trigger deadzone
+     */
+    public float getTriggerDeadzone() {
+        return this.triggerDeadzone;
+    }
+
+    /**
+     * @param jid The id of the joystick
+     * @return The gamepad in that slot. It may not be connected
+     * @throws IllegalArgumentException If the id is not between {@link GLFW#GLFW_JOYSTICK_1} and {@link GLFW#GLFW_JOYSTICK_LAST}
+     */
+    public Gamepad getGamepad(int jid) {
+        if (jid < 0 || jid > GLFW_JOYSTICK_LAST) {
+            throw new IllegalArgumentException("Invalid joystick id: " + jid);
+        }
+        return this.gamepads[jid];
+    }
+
+    /**
+     * @return The connected gamepad with the lowest id or <code>null</code> if no gamepads are connected
+     */
+    public @Nullable Gamepad getFirstGamepad() {
+        for (int jid = 0; jid < JOYSTICK_COUNT; jid++) {
+            Gamepad gamepad = this.gamepads[jid];
+            if (gamepad.isConnected() && gamepad.isGamepad()) {
+                return gamepad;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The number of connected joysticks
+     */
+    public int getConnectedCount() {
+        return Integer.bitCount(this.connected);
+    }
+
+    @Override
+    public void free() {
+        for (Gamepad gamepad : this.gamepads) {
+            gamepad.free();
+        }
+        this.listeners = NO_LISTENERS;
+        this.connected = 0;
+    }
+}
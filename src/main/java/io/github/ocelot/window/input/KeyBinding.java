@@ -0,0 +1,238 @@
+package io.github.ocelot.window.input;
+
+import org.lwjgl.glfw.GLFW;
+
+import java.util.Arrays;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * <p>An immutable description of the keys that trigger an action in {@link KeyBindings}.</p>
+ * <p>A binding is a sequence of one or more strokes. Each stroke is a key or scan code, the modifiers that must and must not be held, and any other keys that must be held down at the same time to form a chord. For example:</p>
+ * <pre>{@code
+ * KeyBinding save = KeyBinding.key(GLFW_KEY_S).require(GLFW_MOD_CONTROL).exact();
+ * KeyBinding sprintJump = KeyBinding.key(GLFW_KEY_SPACE).hold(GLFW_KEY_LEFT_SHIFT, GLFW_KEY_W);
+ * KeyBinding comment = KeyBinding.key(GLFW_KEY_K).require(GLFW_MOD_CONTROL).then(KeyBinding.key(GLFW_KEY_C).require(GLFW_MOD_CONTROL));
+ * }</pre>
+ *
+ * @author Ocelot
+ */
+public final class KeyBinding {
+
+    private static final int MODIFIER_KEYS = GLFW_MOD_SHIFT | GLFW_MOD_CONTROL | GLFW_MOD_ALT | GLFW_MOD_SUPER;
+
+    private final Stroke[] strokes;
+
+    private KeyBinding(Stroke[] strokes) {
+        this.strokes = strokes;
+    }
+
+    /**
+     * Creates a binding for a single key.
+     *
+     * @param keyCode The id of the key
+     * @return A new binding
+     */
+    public static KeyBinding key(int keyCode) {
+        if (KeyboardHandler.index(keyCode, -1) == -1) {
+            throw new IllegalArgumentException("Invalid key code: " + keyCode);
+        }
+        return new KeyBinding(new Stroke[]{new Stroke(keyCode, -1, 0, 0, new int[0])});
+    }
+
+    /**
+     * Creates a binding for a device-specific key with no key code.
+     *
+     * @param scanCode The device-specific scan code
+     * @return A new binding
+     */
+    public static KeyBinding scanCode(int scanCode) {
+        if (KeyboardHandler.index(GLFW_KEY_UNKNOWN, scanCode) == -1) {
+            throw new IllegalArgumentException("Invalid scan code: " + scanCode);
+        }
+        return new KeyBinding(new Stroke[]{new Stroke(GLFW_KEY_UNKNOWN, scanCode, 0, 0, new int[0])});
+    }
+
+    /**
+     * Requires modifiers to be held for the last stroke.
+     *
+     * @param mods The {@link GLFW#GLFW_MOD_SHIFT modifier} flags that must be held
+     * @return A new binding
+     */
+    public KeyBinding require(int mods) {
+        Stroke last = this.last();
+        return this.withLast(new Stroke(last.keyCode, last.scanCode, last.requiredMods | mods, last.forbiddenMods & ~mods, last.heldKeys));
+    }
+
+    /**
+     * Prevents the last stroke from triggering while modifiers are held.
+     *
+     * @param mods The {@link GLFW#GLFW_MOD_SHIFT modifier} flags that must not be held
+     * @return A new binding
+     */
+    public KeyBinding forbid(int mods) {
+        Stroke last = this.last();
+        return this.withLast(new Stroke(last.keyCode, last.scanCode, last.requiredMods & ~mods, last.forbiddenMods | mods, last.heldKeys));
+    }
+
+    /**
+     * Forbids every modifier key that is not required for the last stroke. Caps lock and num lock are not affected.
+     *
+     * @return A new binding
+     */
+    public KeyBinding exact() {
+        return this.forbid(MODIFIER_KEYS & ~this.last().requiredMods);
+    }
+
+    /**
+     * Requires other keys to be held down when the last stroke is pressed, forming a chord.
+     *
+     * @param keyCodes The ids of the keys that must be held
+     * @return A new binding
+     */
+    public KeyBinding hold(int... keyCodes) {
+        for (int keyCode : keyCodes) {
+            if (KeyboardHandler.index(keyCode, -1) == -1) {
+                throw new IllegalArgumentException("Invalid key code: " + keyCode);
+            }
+        }
+        Stroke last = this.last();
+        int[] heldKeys = Arrays.copyOf(last.heldKeys, last.heldKeys.length + keyCodes.length);
+        System.arraycopy(keyCodes, 0, heldKeys, last.heldKeys.length, keyCodes.length);
+        return this.withLast(new Stroke(last.keyCode, last.scanCode, last.requiredMods, last.forbiddenMods, heldKeys));
+    }
+
+    /**
+     * Creates a sequence where the strokes of the specified binding must be pressed after this one.
+     *
+     * @param next The binding to press afterward
+     * @return A new binding
+     */
+    public KeyBinding then(KeyBinding next) {
+        Stroke[] strokes = Arrays.copyOf(this.strokes, this.strokes.length + next.strokes.length);
+        System.arraycopy(next.strokes, 0, strokes, this.strokes.length, next.strokes.length);
+        if (strokes.length > KeyBindings.MAX_SEQUENCE_LENGTH) {
+            throw new IllegalArgumentException("Sequences can be at most " + KeyBindings.MAX_SEQUENCE_LENGTH + " strokes");
+        }
+        return new KeyBinding(strokes);
+    }
+
+    /**
+     * @return The number of strokes in this binding
+     */
+    public int getLength() {
+        return this.strokes.length;
+    }
+
+    /**
+     * @param index The index of the stroke
+     * @return The stroke at that index
+     */
+    public Stroke getStroke(int index) {
+        return this.strokes[index];
+    }
+
+    private Stroke last() {
+        return this.strokes[this.strokes.length - 1];
+    }
+
+    private KeyBinding withLast(Stroke stroke) {
+        Stroke[] strokes = this.strokes.clone();
+        strokes[strokes.length - 1] = stroke;
+        return new KeyBinding(strokes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof KeyBinding that && Arrays.equals(this.strokes, that.strokes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.strokes);
+    }
+
+    @Override
+    public String toString() {
+        return "KeyBinding" + Arrays.toString(this.strokes);
+    }
+
+    /**
+     * A single key press in a binding.
+     *
+     * @param keyCode       The id of the key or {@link GLFW#GLFW_KEY_UNKNOWN} to use the scan code
+     * @param scanCode      The device-specific scan code or <code>-1</code> if the key code is used
+     * @param requiredMods  The modifier flags that must be held
+     * @param forbiddenMods The modifier flags that must not be held
+     * @param heldKeys      The ids of other keys that must be held down. The array is copied, so changing it afterward has no effect
+     */
+    public record Stroke(int keyCode, int scanCode, int requiredMods, int forbiddenMods, int[] heldKeys) {
+
+        public Stroke {
+            heldKeys = heldKeys.clone();
+        }
+
+        /**
+         * @return A copy of the ids of other keys that must be held down
+         */
+        @Override
+        public int[] heldKeys() {
+            return this.heldKeys.clone();
+        }
+
+        /**
+         * @return The number of other keys that must be held down
+         */
+        int heldKeyCount() {
+            return this.heldKeys.length;
+        }
+
+        /**
+         * Checks if all held keys of this stroke are set in a key bit set.
+         *
+         * @param down   The bits of the keys that are held down
+         * @param offset The index of the first word of the bit set in the array
+         * @return Whether every held key is down
+         */
+        boolean isHeld(long[] down, int offset) {
+            for (int heldKey : this.heldKeys) {
+                if ((down[offset + (heldKey >> 6)] & 1L << heldKey) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return The index of the key in the key tables
+         */
+        int index() {
+            return KeyboardHandler.index(this.keyCode, this.scanCode);
+        }
+
+        /**
+         * Checks if the specified modifiers satisfy this stroke.
+         *
+         * @param mods The modifier flags held
+         * @return Whether the stroke accepts those modifiers
+         */
+        public boolean matches(int mods) {
+            return (mods & this.requiredMods) == this.requiredMods && (mods & this.forbiddenMods) == 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof Stroke that && this.keyCode == that.keyCode && this.scanCode == that.scanCode && this.requiredMods == that.requiredMods && this.forbiddenMods == that.forbiddenMods && Arrays.equals(this.heldKeys, that.heldKeys);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * (31 * (31 * this.keyCode + this.scanCode) + this.requiredMods) + this.forbiddenMods) + Arrays.hashCode(this.heldKeys);
+        }
+
+        @Override
+        public String toString() {
+            return "Stroke[key=" + this.keyCode + ", scanCode=" + this.scanCode + ", required=" + this.requiredMods + ", forbidden=" + this.forbiddenMods + ", held=" + Arrays.toString(this.heldKeys) + "]";
+        }
+    }
+}
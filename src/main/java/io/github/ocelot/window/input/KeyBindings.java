@@ -0,0 +1,315 @@
+package io.github.ocelot.window.input;
+
+import io.github.ocelot.window.Window;
+import io.github.ocelot.window.WindowEventListener;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.lwjgl.glfw.GLFW.GLFW_KEY_LEFT_SHIFT;
+import static org.lwjgl.glfw.GLFW.GLFW_KEY_RIGHT_SUPER;
+
+/**
+ * <p>Fires named actions when their {@link KeyBinding} is pressed. Add this as a listener to every window that should trigger actions.</p>
+ * <p>Bindings are compiled into a table indexed by key and modifier state, so a key press only checks the bindings that can actually match it. The keys held down are recorded with every stroke, so chords can be part of any stroke in a sequence. Sequences and chords are checked on those few candidates, longest sequence and largest chord first, and only the first match fires.</p>
+ * <p>Bindings can be changed at any time on the thread events are dispatched on, including from inside an action handler.</p>
+ *
+ * @author Ocelot
+ */
+public class KeyBindings implements WindowEventListener {
+
+    /**
+     * The maximum number of strokes in a sequence.
+     */
+    public static final int MAX_SEQUENCE_LENGTH = 8;
+
+    private static final int MOD_STATES = 1 << 6;
+    private static final int MOD_MASK = MOD_STATES - 1;
+    private static final Comparator<Entry> SPECIFICITY = Comparator.<Entry>comparingInt(entry -> entry.binding.getLength())
+            .thenComparingInt(entry -> entry.last.heldKeyCount())
+            .reversed();
+
+    private final Map<String, Entry> actions;
+    private final Entry[][] table;
+    private final long[] down;
+    private final int[] historyIndices;
+    private final int[] historyMods;
+    private final long[] historyTimes;
+    private final long[] historyDown;
+    private int historyHead;
+    private int historyLength;
+    private volatile long sequenceTimeout;
+    private volatile boolean consumeEvents;
+
+    public KeyBindings() {
+        this.actions = new HashMap<>();
+        this.table = new Entry[KeyboardHandler.SIZE * MOD_STATES][];
+        this.down = new long[KeyboardHandler.WORDS];
+        this.historyIndices = new int[MAX_SEQUENCE_LENGTH];
+        this.historyMods = new int[MAX_SEQUENCE_LENGTH];
+        this.historyTimes = new long[MAX_SEQUENCE_LENGTH];
+        this.historyDown = new long[MAX_SEQUENCE_LENGTH * KeyboardHandler.WORDS];
+        this.sequenceTimeout = 1_000_000_000L;
+    }
+
+    @Override
+    public void keyPressed(Window window, int key, int scanCode, KeyMods mods) {
+        int index = KeyboardHandler.index(key, scanCode);
+        if (index == -1) {
+            return;
+        }
+
+        KeyboardHandler.set(this.down, index);
+        int modifiers = mods.mods() & MOD_MASK;
+        long now = System.nanoTime();
+
+        // Pressing a modifier on its own is not a stroke, so it must not break up a sequence like Ctrl+K, Ctrl+C
+        boolean recorded = !isModifier(key);
+        if (recorded) {
+            this.historyHead = (this.historyHead + 1) & (MAX_SEQUENCE_LENGTH - 1);
+            this.historyIndices[this.historyHead] = index;
+            this.historyMods[this.historyHead] = modifiers;
+            this.historyTimes[this.historyHead] = now;
+            System.arraycopy(this.down, 0, this.historyDown, this.historyHead * KeyboardHandler.WORDS, KeyboardHandler.WORDS);
+            if (this.historyLength < MAX_SEQUENCE_LENGTH) {
+                this.historyLength++;
+            }
+        }
+
+        Entry[] candidates = this.table[index * MOD_STATES + modifiers];
+        if (candidates == null) {
+            return;
+        }
+
+        for (Entry candidate : candidates) {
+            if (this.matches(candidate, now, recorded)) {
+                if (candidate.binding.getLength() > 1) {
+                    this.historyLength = 0;
+                }
+                if (this.consumeEvents) {
+                    window.consumeEvent();
+                }
+                candidate.handler.onAction(window, candidate.action);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void keyReleased(Window window, int key, int scanCode, KeyMods mods) {
+        int index = KeyboardHandler.index(key, scanCode);
+        if (index != -1) {
+            KeyboardHandler.clear(this.down, index);
+        }
+    }
+
+    private static boolean isModifier(int key) {
+        return key >= GLFW_KEY_LEFT_SHIFT && key <= GLFW_KEY_RIGHT_SUPER;
+    }
+
+    private boolean matches(Entry entry, long now, boolean recorded) {
+        if (!entry.last.isHeld(this.down, 0)) {
+            return false;
+        }
+
+        // Unrecorded strokes are not in the history, so the earlier strokes start one slot later
+        int offset = recorded ? 0 : 1;
+        int length = entry.binding.getLength();
+        if (length - offset > this.historyLength) {
+            return false;
+        }
+
+        // The last stroke is already known to match, so walk backwards through the earlier ones
+        long timeout = this.sequenceTimeout;
+        long next = now;
+        for (int i = 1; i < length; i++) {
+            int slot = (this.historyHead - i + offset) & (MAX_SEQUENCE_LENGTH - 1);
+            KeyBinding.Stroke stroke = entry.binding.getStroke(length - 1 - i);
+            if (this.historyIndices[slot] != stroke.index() || !stroke.matches(this.historyMods[slot]) || next - this.historyTimes[slot] > timeout || !stroke.isHeld(this.historyDown, slot * KeyboardHandler.WORDS)) {
+                return false;
+            }
+            next = this.historyTimes[slot];
+        }
+        return true;
+    }
+
+    /**
+     * Binds an action to a key binding. If the action is already bound, it is rebound.
+     *
+     * @param action  The name of the action
+     * @param binding The keys that trigger the action
+     * @param handler The handler to call when the action is triggered
+     */
+    public void bind(String action, KeyBinding binding, ActionHandler handler) {
+        Entry entry = new Entry(action, binding, handler);
+        Entry previous = this.actions.put(action, entry);
+        if (previous != null) {
+            this.remove(previous);
+        }
+        this.insert(entry);
+    }
+
+    /**
+     * Changes the keys that trigger an existing action.
+     *
+     * @param action  The name of the action
+     * @param binding The new keys that trigger the action
+     * @throws IllegalArgumentException If the action is not bound
+     */
+    public void rebind(String action, KeyBinding binding) {
+        Entry entry = this.actions.get(action);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown action: " + action);
+        }
+        this.bind(action, binding, entry.handler);
+    }
+
+    /**
+     * Removes the binding for an action.
+     *
+     * @param action The name of the action
+     * @return Whether the action was bound
+     */
+    public boolean unbind(String action) {
+        Entry entry = this.actions.remove(action);
+        if (entry == null) {
+            return false;
+        }
+        this.remove(entry);
+        return true;
+    }
+
+    /**
+     * Removes all bindings.
+     */
+    public void clear() {
+        this.actions.clear();
+        Arrays.fill(this.table, null);
+    }
+
+    private void insert(Entry entry) {
+        int base = entry.last.index() * MOD_STATES;
+        for (int mods = 0; mods < MOD_STATES; mods++) {
+            if (!entry.last.matches(mods)) {
+                continue;
+            }
+
+            Entry[] slot = this.table[base + mods];
+            Entry[] updated;
+            if (slot == null) {
+                updated = new Entry[]{entry};
+            } else {
+                updated = Arrays.copyOf(slot, slot.length + 1);
+                updated[slot.length] = entry;
+                Arrays.sort(updated, SPECIFICITY);
+            }
+            this.table[base + mods] = updated;
+        }
+    }
+
+    private void remove(Entry entry) {
+        int base = entry.last.index() * MOD_STATES;
+        for (int mods = 0; mods < MOD_STATES; mods++) {
+            Entry[] slot = this.table[base + mods];
+            if (slot == null) {
+                continue;
+            }
+
+            for (int i = 0; i < slot.length; i++) {
+                if (slot[i] == entry) {
+                    Entry[] updated = new Entry[slot.length - 1];
+                    System.arraycopy(slot, 0, updated, 0, i);
+                    System.arraycopy(slot, i + 1, updated, i, slot.length - i - 1);
+                    this.table[base + mods] = updated.length > 0 ? updated : null;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param action The name of the action
+     * @return The keys bound to that action or <code>null</code> if it is not bound
+     */
+    public @Nullable KeyBinding getBinding(String action) {
+        Entry entry = this.actions.get(action);
+        return entry != null ? entry.binding : null;
+    }
+
+    /**
+     * @return The number of bound actions
+     */
+    public int size() {
+        return this.actions.size();
+    }
+
+    /**
+     * Sets the maximum time allowed between two strokes of a sequence.
+     *
+     * @param timeoutNanos The timeout in nanoseconds
+     */
+    public void setSequenceTimeout(long timeoutNanos) {
+        if (timeoutNanos <= 0) {
+            throw new IllegalArgumentException("Sequence timeout must be positive");
+        }
+        this.sequenceTimeout = timeoutNanos;
+    }
+
+    /**
+     * @return The maximum time allowed between two strokes of a sequence in nanoseconds
+     */
+    public long getSequenceTimeout() {
+        return this.sequenceTimeout;
+    }
+
+    /**
+     * Sets whether key presses that trigger an action are consumed so lower priority listeners don't receive them.
+     *
+     * @param consumeEvents Whether to consume matched key presses
+     */
+    public void setConsumeEvents(boolean consumeEvents) {
+        this.consumeEvents = consumeEvents;
+    }
+
+    /**
+     * @return Whether key presses that trigger an action are consumed
+     */
+    public boolean isConsumeEvents() {
+        return this.consumeEvents;
+    }
+
+    private static final class Entry {
+
+        private final String action;
+        private final KeyBinding binding;
+        private final KeyBinding.Stroke last;
+        private final ActionHandler handler;
+
+        private Entry(String action, KeyBinding binding, ActionHandler handler) {
+            this.action = action;
+            this.binding = binding;
+            this.last = binding.getStroke(binding.getLength() - 1);
+            this.handler = handler;
+        }
+    }
+
+    /**
+     * Called when a bound action is triggered.
+     *
+     * @author Ocelot
+     */
+    @FunctionalInterface
+    public interface ActionHandler {
+
+        /**
+         * Called when the keys bound to an action are pressed.
+         *
+         * @param window The window that received the key press
+         * @param action The name of the action
+         */
+        void onAction(Window window, String action);
+    }
+}
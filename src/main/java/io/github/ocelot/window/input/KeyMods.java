@@ -22,7 +22,26 @@ public record KeyMods(int mods,
                       boolean caps,
                       boolean numLock) {
 
+    private static final int ALL_MODS = GLFW_MOD_SHIFT | GLFW_MOD_CONTROL | GLFW_MOD_ALT | GLFW_MOD_SUPER | GLFW_MOD_CAPS_LOCK | GLFW_MOD_NUM_LOCK;
+    private static final KeyMods[] CACHE = new KeyMods[ALL_MODS + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new KeyMods(i);
+        }
+    }
+
     public KeyMods(int mods) {
         this(mods, (mods & GLFW_MOD_SHIFT) > 0, (mods & GLFW_MOD_CONTROL) > 0, (mods & GLFW_MOD_ALT) > 0, (mods & GLFW_MOD_SUPER) > 0, (mods & GLFW_MOD_CAPS_LOCK) > 0, (mods & GLFW_MOD_NUM_LOCK) > 0);
     }
+
+    /**
+     * Retrieves the shared instance for the specified modifiers. Every combination of the known GLFW modifier bits is interned, so this does not allocate for any value GLFW currently reports.
+     *
+     * @param mods The raw modifiers bitfield
+     * @return The modifiers for that bitfield
+     */
+    public static KeyMods of(int mods) {
+        return (mods & ~ALL_MODS) == 0 ? CACHE[mods] : new KeyMods(mods);
+    }
 }
@@ -4,44 +4,86 @@ import io.github.ocelot.window.Window;
 import io.github.ocelot.window.WindowEventListener;
 import org.lwjgl.glfw.GLFW;
 
-import java.util.BitSet;
+import java.util.Arrays;
 
 import static org.lwjgl.glfw.GLFW.GLFW_KEY_LAST;
 import static org.lwjgl.glfw.GLFW.GLFW_KEY_UNKNOWN;
 
 /**
- * Tracks pressed keys using keycode and scancode.
+ * <p>Tracks pressed keys using keycode and scancode.</p>
+ * <p>Besides the current state, presses and releases are collected between calls to {@link #tick()}, so a key that was tapped and released within a single tick is still reported by {@link #wasPressed(int)}. All state is stored in fixed size arrays, so this never allocates after construction.</p>
  *
  * @author Ocelot
  */
 public class KeyboardHandler implements WindowEventListener {
 
-    private final BitSet keys;
-    private final BitSet scanKeys;
+    /**
+     * The largest scan code that is tracked. Keys with larger scan codes and no key code are ignored.
+     */
+    public static final int MAX_SCAN_CODE = 511;
+
+    private static final int KEY_COUNT = GLFW_KEY_LAST + 1;
+    static final int SIZE = KEY_COUNT + MAX_SCAN_CODE + 1;
+    static final int WORDS = (SIZE + 63) >> 6;
+
+    private final long[] down;
+    private long[] pressed;
+    private long[] released;
+    private int[] pressCounts;
+    private long[] nextPressed;
+    private long[] nextReleased;
+    private int[] nextPressCounts;
 
     public KeyboardHandler() {
-        this.keys = new BitSet(GLFW_KEY_LAST + 1);
-        this.scanKeys = new BitSet();
+        this.down = new long[WORDS];
+        this.pressed = new long[WORDS];
+        this.released = new long[WORDS];
+        this.pressCounts = new int[SIZE];
+        this.nextPressed = new long[WORDS];
+        this.nextReleased = new long[WORDS];
+        this.nextPressCounts = new int[SIZE];
     }
 
     @Override
     public void keyPressed(Window window, int key, int scanCode, KeyMods mods) {
-        if (key == GLFW_KEY_UNKNOWN) {
-            this.scanKeys.set(scanCode, true);
-        } else {
-            this.keys.set(key, true);
+        int index = index(key, scanCode);
+        if (index != -1) {
+            set(this.down, index);
+            set(this.nextPressed, index);
+            this.nextPressCounts[index]++;
         }
     }
 
     @Override
     public void keyReleased(Window window, int key, int scanCode, KeyMods mods) {
-        if (key == GLFW_KEY_UNKNOWN) {
-            this.scanKeys.set(scanCode, false);
-        } else {
-            this.keys.set(key, false);
+        int index = index(key, scanCode);
+        if (index != -1) {
+            clear(this.down, index);
+            set(this.nextReleased, index);
         }
     }
 
+    /**
+     * Ends the current tick. Presses and releases received since the last tick become visible to {@link #wasPressed(int)}, {@link #wasReleased(int)} and {@link #getPressCount(int)}, and collection starts over for the next tick.
+     */
+    public void tick() {
+        long[] pressed = this.pressed;
+        this.pressed = this.nextPressed;
+        this.nextPressed = pressed;
+
+        long[] released = this.released;
+        this.released = this.nextReleased;
+        this.nextReleased = released;
+
+        int[] pressCounts = this.pressCounts;
+        this.pressCounts = this.nextPressCounts;
+        this.nextPressCounts = pressCounts;
+
+        Arrays.fill(this.nextPressed, 0L);
+        Arrays.fill(this.nextReleased, 0L);
+        Arrays.fill(this.nextPressCounts, 0);
+    }
+
     /**
      * Checks to see if the specified key or scan code is pressed.
      *
@@ -50,7 +92,7 @@ public class KeyboardHandler implements WindowEventListener {
      * @return Whether that key is pressed
      */
     public boolean isKeyPressed(int keyCode, int scanCode) {
-        return keyCode == GLFW_KEY_UNKNOWN ? this.scanKeys.get(scanCode) : this.keys.get(keyCode);
+        return get(this.down, index(keyCode, scanCode));
     }
 
     /**
@@ -60,6 +102,93 @@ public class KeyboardHandler implements WindowEventListener {
      * @return Whether that key is pressed
      */
     public boolean isKeyPressed(int keyCode) {
-        return keyCode != GLFW_KEY_UNKNOWN && this.keys.get(keyCode);
+        return get(this.down, index(keyCode, -1));
+    }
+
+    /**
+     * Checks to see if the specified key or scan code was pressed during the last tick, even if it has been released since.
+     *
+     * @param keyCode  The id of the key or {@link GLFW#GLFW_KEY_UNKNOWN} to defer to the scan code
+     * @param scanCode The device-specific scan code
+     * @return Whether that key was pressed
+     */
+    public boolean wasPressed(int keyCode, int scanCode) {
+        return get(this.pressed, index(keyCode, scanCode));
+    }
+
+    /**
+     * Checks to see if the specified key was pressed during the last tick, even if it has been released since.
+     *
+     * @param keyCode The id of the key
+     * @return Whether that key was pressed
+     */
+    public boolean wasPressed(int keyCode) {
+        return get(this.pressed, index(keyCode, -1));
+    }
+
+    /**
+     * Checks to see if the specified key or scan code was released during the last tick.
+     *
+     * @param keyCode  The id of the key or {@link GLFW#GLFW_KEY_UNKNOWN} to defer to the scan code
+     * @param scanCode The device-specific scan code
+     * @return Whether that key was released
+     */
+    public boolean wasReleased(int keyCode, int scanCode) {
+        return get(this.released, index(keyCode, scanCode));
+    }
+
+    /**
+     * Checks to see if the specified key was released during the last tick.
+     *
+     * @param keyCode The id of the key
+     * @return Whether that key was released
+     */
+    public boolean wasReleased(int keyCode) {
+        return get(this.released, index(keyCode, -1));
+    }
+
+    /**
+     * Counts how many times the specified key or scan code was pressed during the last tick. Key repeats are not counted.
+     *
+     * @param keyCode  The id of the key or {@link GLFW#GLFW_KEY_UNKNOWN} to defer to the scan code
+     * @param scanCode The device-specific scan code
+     * @return The number of presses
+     */
+    public int getPressCount(int keyCode, int scanCode) {
+        int index = index(keyCode, scanCode);
+        return index != -1 ? this.pressCounts[index] : 0;
+    }
+
+    /**
+     * Counts how many times the specified key was pressed during the last tick. Key repeats are not counted.
+     *
+     * @param keyCode The id of the key
+     * @return The number of presses
+     */
+    public int getPressCount(int keyCode) {
+        int index = index(keyCode, -1);
+        return index != -1 ? this.pressCounts[index] : 0;
+    }
+
+    /**
+     * @return The index of the key or scan code in the key tables or <code>-1</code> if it is not tracked
+     */
+    static int index(int keyCode, int scanCode) {
+        if (keyCode != GLFW_KEY_UNKNOWN) {
+            return keyCode >= 0 && keyCode < KEY_COUNT ? keyCode : -1;
+        }
+        return scanCode >= 0 && scanCode <= MAX_SCAN_CODE ? KEY_COUNT + scanCode : -1;
+    }
+
+    static boolean get(long[] bits, int index) {
+        return index != -1 && (bits[index >> 6] & 1L << index) != 0;
+    }
+
+    static void set(long[] bits, int index) {
+        bits[index >> 6] |= 1L << index;
+    }
+
+    static void clear(long[] bits, int index) {
+        bits[index >> 6] &= ~(1L << index);
     }
 }
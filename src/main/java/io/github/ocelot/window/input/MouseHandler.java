@@ -1,7 +1,9 @@
 package io.github.ocelot.window.input;
 
 import io.github.ocelot.window.Window;
+import io.github.ocelot.window.WindowBackend;
 import io.github.ocelot.window.WindowEventListener;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.BitSet;
 
@@ -24,6 +26,8 @@ public class MouseHandler implements WindowEventListener {
     private double accumulatedDY;
     private boolean mouseGrabbed;
     private boolean ignoreFirstMovement;
+    private boolean rawMouseMotion;
+    private MouseMotionHistory motionHistory;
 
     public MouseHandler(Window window) {
         this.window = window;
@@ -50,6 +54,10 @@ public class MouseHandler implements WindowEventListener {
             this.accumulatedDY = 0;
             this.ignoreFirstMovement = false;
         }
+
+        if (this.motionHistory != null) {
+            this.motionHistory.record(System.nanoTime(), x, y, this.mouseDX, this.mouseDY);
+        }
     }
 
     @Override
@@ -79,8 +87,12 @@ public class MouseHandler implements WindowEventListener {
         this.mouseGrabbed = true;
         this.mouseX = this.window.getWindowWidth() / 2.0;
         this.mouseY = this.window.getWindowHeight() / 2.0;
-        glfwSetCursorPos(this.window.getHandle(), this.mouseX, this.mouseY);
-        glfwSetInputMode(this.window.getHandle(), GLFW_CURSOR, GLFW_CURSOR_DISABLED);
+        WindowBackend backend = this.window.getBackend();
+        backend.setCursorPos(this.window.getHandle(), this.mouseX, this.mouseY);
+        backend.setInputMode(this.window.getHandle(), GLFW_CURSOR, GLFW_CURSOR_DISABLED);
+        if (this.rawMouseMotion) {
+            backend.setInputMode(this.window.getHandle(), GLFW_RAW_MOUSE_MOTION, GLFW_TRUE);
+        }
         this.ignoreFirstMovement = true;
         this.accumulatedDX = 0;
         this.accumulatedDY = 0;
@@ -96,8 +108,46 @@ public class MouseHandler implements WindowEventListener {
         this.mouseGrabbed = false;
         this.mouseX = this.window.getWindowWidth() / 2.0;
         this.mouseY = this.window.getWindowHeight() / 2.0;
-        glfwSetCursorPos(this.window.getHandle(), this.mouseX, this.mouseY);
-        glfwSetInputMode(this.window.getHandle(), GLFW_CURSOR, GLFW_CURSOR_NORMAL);
+        WindowBackend backend = this.window.getBackend();
+        backend.setCursorPos(this.window.getHandle(), this.mouseX, this.mouseY);
+        backend.setInputMode(this.window.getHandle(), GLFW_CURSOR, GLFW_CURSOR_NORMAL);
+    }
+
+    /**
+     * Starts recording every mouse movement into a {@link MouseMotionHistory} instead of only keeping the last one.
+     *
+     * @param capacity The maximum number of samples to keep between clears. Rounded up to the next power of two
+     * @return The history samples are recorded to
+     */
+    public MouseMotionHistory enableMotionHistory(int capacity) {
+        this.motionHistory = new MouseMotionHistory(capacity);
+        return this.motionHistory;
+    }
+
+    /**
+     * Stops recording mouse movement history.
+     */
+    public void disableMotionHistory() {
+        this.motionHistory = null;
+    }
+
+    /**
+     * Enables or disables unscaled and unaccelerated mouse motion while the mouse is grabbed. Raw motion is not supported on every platform.
+     *
+     * @param rawMouseMotion Whether to use raw mouse motion
+     * @return Whether raw mouse motion is supported
+     * @see <a href=https://www.glfw.org/docs/3.3/input_guide.html#raw_mouse_motion>GLFW Raw Mouse Motion</a>
+     */
+    public boolean setRawMouseMotion(boolean rawMouseMotion) {
+        if (!this.window.getBackend().rawMouseMotionSupported()) {
+            this.rawMouseMotion = false;
+            return false;
+        }
+        this.rawMouseMotion = rawMouseMotion;
+        if (this.window.getHandle() != 0L) {
+            this.window.getBackend().setInputMode(this.window.getHandle(), GLFW_RAW_MOUSE_MOTION, rawMouseMotion ? GLFW_TRUE : GLFW_FALSE);
+        }
+        return true;
     }
 
     /**
@@ -145,6 +195,20 @@ public class MouseHandler implements WindowEventListener {
         return mouseDY;
     }
 
+    /**
+     * @return The history of mouse movement or <code>null</code> if it is not being recorded
+     */
+    public @Nullable MouseMotionHistory getMotionHistory() {
+        return this.motionHistory;
+    }
+
+    /**
+     * @return Whether raw mouse motion is used while the mouse is grabbed
+     */
+    public boolean isRawMouseMotion() {
+        return this.rawMouseMotion;
+    }
+
     /**
      * @return Whether the mouse is disabled and not currently visible
      */
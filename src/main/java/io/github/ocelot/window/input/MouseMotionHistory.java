@@ -0,0 +1,159 @@
+package io.github.ocelot.window.input;
+
+/**
+ * <p>A fixed capacity ring buffer of timestamped mouse motion samples. Every cursor callback is recorded, so high polling rate mice can be processed at the rate they report instead of only seeing the last position each frame.</p>
+ * <p>Samples are stored in primitive arrays and recording never allocates. When full, the oldest samples are overwritten. The history should be processed and {@link #clear() cleared} once per frame.</p>
+ *
+ * @author Ocelot
+ * @see MouseHandler#enableMotionHistory(int)
+ */
+public final class MouseMotionHistory {
+
+    private final long[] times;
+    private final double[] x;
+    private final double[] y;
+    private final double[] dx;
+    private final double[] dy;
+    private final int mask;
+    private long head;
+    private long tail;
+    private long dropped;
+
+    MouseMotionHistory(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int size = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.times = new long[size];
+        this.x = new double[size];
+        this.y = new double[size];
+        this.dx = new double[size];
+        this.dy = new double[size];
+        this.mask = size - 1;
+    }
+
+    void record(long time, double x, double y, double dx, double dy) {
+        if (this.tail - this.head == this.times.length) {
+            this.head++;
+            this.dropped++;
+        }
+        int slot = (int) (this.tail++ & this.mask);
+        this.times[slot] = time;
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.dx[slot] = dx;
+        this.dy[slot] = dy;
+    }
+
+    /**
+     * Removes all samples.
+     */
+    public void clear() {
+        this.head = this.tail;
+    }
+
+    /**
+     * Passes every sample to the consumer from oldest to newest.
+     *
+     * @param consumer The consumer to pass samples to
+     */
+    public void forEach(SampleConsumer consumer) {
+        for (long i = this.head; i < this.tail; i++) {
+            int slot = (int) (i & this.mask);
+            consumer.accept(this.times[slot], this.x[slot], this.y[slot], this.dx[slot], this.dy[slot]);
+        }
+    }
+
+    private int slot(int index) {
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.size());
+        }
+        return (int) ((this.head + index) & this.mask);
+    }
+
+    /**
+     * @return The number of samples recorded since the last clear
+     */
+    public int size() {
+        return (int) (this.tail - this.head);
+    }
+
+    /**
+     * @return Whether there are no samples
+     */
+    public boolean isEmpty() {
+        return this.tail == this.head;
+    }
+
+    /**
+     * @return The maximum number of samples that can be stored
+     */
+    public int getCapacity() {
+        return this.times.length;
+    }
+
+    /**
+     * @return The number of samples overwritten before they were cleared
+     */
+    public long getDroppedCount() {
+        return this.dropped;
+    }
+
+    /**
+     * @param index The index of the sample, where <code>0</code> is the oldest
+     * @return The {@link System#nanoTime()} the sample was received at
+     */
+    public long getTime(int index) {
+        return this.times[this.slot(index)];
+    }
+
+    /**
+     * @param index The index of the sample, where <code>0</code> is the oldest
+     * @return The x position of the mouse
+     */
+    public double getX(int index) {
+        return this.x[this.slot(index)];
+    }
+
+    /**
+     * @param index The index of the sample, where <code>0</code> is the oldest
+     * @return The y position of the mouse
+     */
+    public double getY(int index) {
+        return this.y[this.slot(index)];
+    }
+
+    /**
+     * @param index The index of the sample, where <code>0</code> is the oldest
+     * @return The x motion since the previous sample
+     */
+    public double getDX(int index) {
+        return this.dx[this.slot(index)];
+    }
+
+    /**
+     * @param index The index of the sample, where <code>0</code> is the oldest
+     * @return The y motion since the previous sample
+     */
+    public double getDY(int index) {
+        return this.dy[this.slot(index)];
+    }
+
+    /**
+     * Receives mouse motion samples without boxing.
+     */
+    @FunctionalInterface
+    public interface SampleConsumer {
+
+        /**
+         * Accepts a single sample.
+         *
+         * @param time The {@link System#nanoTime()} the sample was received at
+         * @param x    The x position of the mouse
+         * @param y    The y position of the mouse
+         * @param dx   The x motion since the previous sample
+         * @param dy   The y motion since the previous sample
+         */
+        void accept(long time, double x, double y, double dx, double dy);
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.ocelot.window;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClipboardTest {
+
+    @Test
+    public void cachesReadsAndCoalescesWrites() {
+        String[] system = {"first"};
+        List<String> written = new ArrayList<>();
+        AtomicInteger wakeUps = new AtomicInteger();
+        Clipboard clipboard = new Clipboard(() -> system[0], text -> {
+            written.add(text);
+            system[0] = text;
+        }, wakeUps::incrementAndGet);
+        clipboard.setMaxAge(0);
+
+        CompletableFuture<String> a = clipboard.read();
+        CompletableFuture<String> b = clipboard.read();
+        assertFalse(a.isDone());
+        assertEquals(1, wakeUps.get());
+        clipboard.update();
+        assertEquals("first", a.join());
+        assertEquals("first", b.join());
+        assertEquals(1, clipboard.getFetchCount());
+
+        // Cached until a window gains focus
+        system[0] = "external";
+        assertEquals("first", clipboard.read().join());
+        clipboard.invalidate();
+        CompletableFuture<String> c = clipboard.read();
+        clipboard.update();
+        assertEquals("external", c.join());
+        assertEquals(2, clipboard.getFetchCount());
+        assertEquals(1, clipboard.getChangeCount());
+
+        CompletableFuture<Void> w1 = clipboard.write("one");
+        CompletableFuture<Void> w2 = clipboard.write("two");
+        assertEquals("two", clipboard.read().join());
+        clipboard.update();
+        assertTrue(w1.isDone() && w2.isDone());
+        assertEquals(List.of("two"), written);
+        assertEquals(1, clipboard.getCoalescedWriteCount());
+        assertEquals("two", clipboard.read().join());
+        assertEquals(2, clipboard.getFetchCount());
+    }
+}
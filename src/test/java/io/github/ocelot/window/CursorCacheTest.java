@@ -0,0 +1,94 @@
+package io.github.ocelot.window;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.lwjgl.glfw.GLFW.*;
+
+public class CursorCacheTest {
+
+    @BeforeAll
+    public static void init() {
+        glfwInitHint(GLFW_PLATFORM, GLFW_PLATFORM_NULL);
+        assumeTrue(glfwInit(), "GLFW null platform is not available");
+    }
+
+    @AfterAll
+    public static void terminate() {
+        glfwTerminate();
+    }
+
+    @Test
+    public void shareAndEvict() {
+        int size = 16 * 16 * 4;
+        ByteBuffer pixels = MemoryUtil.memAlloc(size);
+        CursorCache cache = new CursorCache(WindowBackend.GLFW);
+        try {
+            Cursor arrow = cache.getStandard(Cursor.Shape.ARROW);
+            assertSame(arrow, cache.getStandard(Cursor.Shape.ARROW));
+
+            Cursor red = cache.get(16, 16, 0, 0, fill(pixels, 0xFF0000FF));
+            assertSame(red, cache.get(16, 16, 0, 0, fill(pixels, 0xFF0000FF)));
+            assertNotSame(red, cache.get(16, 16, 8, 8, pixels));
+            assertEquals(2, cache.getHitCount());
+            assertEquals(3, cache.getMissCount());
+            assertEquals(2 * size, cache.getMemoryUsage());
+
+            Window window = new Window(null, 100, 100, false);
+            window.setCursor(red);
+            cache.setMaxMemory(size);
+            assertFalse(red.isFreed());
+            assertEquals(1, cache.getEvictionCount());
+
+            Cursor blue = cache.get(16, 16, 0, 0, fill(pixels, 0x0000FFFF));
+            assertFalse(red.isFreed());
+            assertEquals(2, cache.size());
+
+            window.setCursor(blue);
+            assertSame(blue, window.getCursor());
+            assertFalse(red.isInUse());
+            cache.get(16, 16, 0, 0, fill(pixels, 0x00FF00FF));
+            assertTrue(red.isFreed());
+            assertFalse(blue.isFreed());
+            assertEquals(2, cache.getEvictionCount());
+        } finally {
+            cache.free();
+            MemoryUtil.memFree(pixels);
+        }
+    }
+
+    @Test
+    public void heapPixels() {
+        ByteBuffer direct = MemoryUtil.memAlloc(8 * 8 * 4);
+        CursorCache cache = new CursorCache(WindowBackend.GLFW);
+        try {
+            ByteBuffer heap = ByteBuffer.allocate(4 + 8 * 8 * 4);
+            heap.position(4);
+            fill(heap.slice().order(ByteOrder.nativeOrder()), 0x11223344);
+            Cursor cursor = cache.get(8, 8, 1, 1, heap);
+            assertEquals(fill(direct, 0x11223344), cursor.getPixels());
+            assertEquals(4, heap.position());
+
+            assertSame(cursor, cache.get(8, 8, 1, 1, direct));
+            assertEquals(1, cache.getHitCount());
+        } finally {
+            cache.free();
+            MemoryUtil.memFree(direct);
+        }
+    }
+
+    private static ByteBuffer fill(ByteBuffer pixels, int rgba) {
+        pixels.clear();
+        while (pixels.hasRemaining()) {
+            pixels.putInt(rgba);
+        }
+        return pixels.flip();
+    }
+}
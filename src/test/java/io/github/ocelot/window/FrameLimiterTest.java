@@ -0,0 +1,79 @@
+package io.github.ocelot.window;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameLimiterTest {
+
+    // Every timer read moves the simulated clock forward a little, so spinning always finishes
+    private static final long READ_NANOS = 10_000L;
+
+    @Test
+    public void parkingResumesAfterSpike() {
+        AtomicLong time = new AtomicLong();
+        WindowBackend backend = (WindowBackend) Proxy.newProxyInstance(WindowBackend.class.getClassLoader(), new Class<?>[]{WindowBackend.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "getTimerFrequency" -> 1_000_000_000L;
+            case "getTimerValue" -> time.addAndGet(READ_NANOS);
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+
+        // The first park is stretched by 100ms as if the process was paused, the rest oversleep by 200us
+        AtomicInteger parks = new AtomicInteger();
+        FrameLimiter limiter = new FrameLimiter(backend, nanos -> time.addAndGet(nanos + (parks.getAndIncrement() == 0 ? 100_000_000L : 200_000L)));
+        limiter.setTargetFrameRate(100);
+        limiter.sync();
+        assertEquals(1, parks.get());
+        assertEquals(1, limiter.getMissedDeadlines());
+        assertTrue(limiter.getOversleepNanos() <= 5_000_000L, () -> "Oversleep was not capped: " + limiter.getOversleepNanos());
+
+        // Every following frame parks again and starts right at its deadline
+        limiter.resetStatistics();
+        for (int i = 0; i < 20; i++) {
+            int before = parks.get();
+            limiter.sync();
+            assertTrue(parks.get() > before, "Frame " + i + " did not park");
+        }
+        assertEquals(20, limiter.getFrameCount());
+        assertEquals(0, limiter.getMissedDeadlines());
+        assertTrue(limiter.getMaxLatenessNanos() <= 2 * READ_NANOS, () -> "Frames were late by " + limiter.getMaxLatenessNanos() + "ns");
+        assertTrue(limiter.getOversleepNanos() < 1_000_000L, () -> "Oversleep did not recover: " + limiter.getOversleepNanos());
+    }
+
+    @Test
+    public void uncappedWindowsAreNotThrottled() {
+        HeadlessBackend headless = new HeadlessBackend();
+        AtomicLong time = new AtomicLong();
+        WindowBackend backend = (WindowBackend) Proxy.newProxyInstance(WindowBackend.class.getClassLoader(), new Class<?>[]{WindowBackend.class}, (proxy, method, args) -> {
+            if (method.getName().equals("getTimerValue")) {
+                return time.addAndGet(READ_NANOS);
+            }
+            try {
+                return method.invoke(headless, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+
+        try (WindowManager windowManager = new WindowManager(backend)) {
+            Window capped = windowManager.create("Capped", 320, 240, false);
+            Window uncapped = windowManager.create("Uncapped", 320, 240, false);
+            capped.setTargetFrameRate(10);
+            long deadline = capped.getFrameLimiter().getDeadline();
+
+            for (int i = 0; i < 10; i++) {
+                windowManager.update();
+            }
+
+            // Waiting for the capped window would have pushed the clock past its deadline
+            assertTrue(time.get() < deadline, "Updates waited for the capped window");
+            assertEquals(10, headless.getSwapCount(uncapped.getHandle()));
+            assertEquals(0, headless.getSwapCount(capped.getHandle()));
+        }
+    }
+}
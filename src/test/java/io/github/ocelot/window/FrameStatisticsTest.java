@@ -0,0 +1,28 @@
+package io.github.ocelot.window;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameStatisticsTest {
+
+    @Test
+    public void pollAndPresentOnDifferentThreads() throws InterruptedException {
+        FrameStatistics statistics = new FrameStatistics();
+        Thread poller = new Thread(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                statistics.addPollTime(1);
+            }
+        });
+        poller.start();
+        long now = 1;
+        while (poller.isAlive()) {
+            statistics.framePresented(now++, 0);
+        }
+        poller.join();
+        statistics.framePresented(now, 0);
+
+        TimeHistogram pollTimes = statistics.getPollTimes();
+        assertEquals(100_000, Math.round(pollTimes.getMean() * pollTimes.getCount()));
+    }
+}
@@ -0,0 +1,194 @@
+package io.github.ocelot.window;
+
+import io.github.ocelot.window.input.KeyMods;
+import io.github.ocelot.window.input.MouseHandler;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.glfw.GLFW.*;
+
+public class HeadlessBackendTest {
+
+    @Test
+    public void simulateWindow() {
+        HeadlessBackend backend = new HeadlessBackend();
+        try (WindowManager windowManager = new WindowManager(backend)) {
+            assertEquals(1, windowManager.getMonitors().size());
+            assertEquals(HeadlessBackend.DEFAULT_MODE, windowManager.getPrimaryMonitor().getCurrentMode());
+
+            Window window = windowManager.create("Test", 800, 600, false);
+            long handle = window.getHandle();
+            List<String> events = new ArrayList<>();
+            window.addListener(new WindowEventListener() {
+                @Override
+                public void keyPressed(Window window, int key, int scanCode, KeyMods mods) {
+                    events.add("key " + key);
+                }
+
+                @Override
+                public void mouseMoved(Window window, double x, double y) {
+                    events.add("mouse " + x + "," + y);
+                }
+
+                @Override
+                public void filesDropped(Window window, Path... paths) {
+                    events.add("drop " + paths[0].getFileName());
+                }
+            });
+            MouseHandler mouse = new MouseHandler(window);
+            window.addListener(mouse);
+
+            // The window is centered when created and reported on the first poll
+            windowManager.update();
+            assertEquals(560, window.getX());
+            assertEquals(240, window.getY());
+            assertEquals(1, backend.getSwapCount(handle));
+
+            backend.inputKey(handle, GLFW_KEY_A, 30, GLFW_PRESS, 0);
+            backend.inputCursorPos(handle, 10, 20);
+            backend.inputMouseButton(handle, GLFW_MOUSE_BUTTON_LEFT, GLFW_PRESS, 0);
+            backend.inputDrop(handle, "/tmp/file.txt");
+            assertTrue(events.isEmpty());
+            windowManager.update();
+            assertEquals(List.of("key " + GLFW_KEY_A, "mouse 10.0,20.0", "drop file.txt"), events);
+            assertTrue(mouse.isButtonPressed(GLFW_MOUSE_BUTTON_LEFT));
+
+            mouse.grabMouse();
+            assertEquals(GLFW_CURSOR_DISABLED, backend.getInputMode(handle, GLFW_CURSOR));
+
+            window.setCursor(windowManager.getCursorCache().getStandard(Cursor.Shape.IBEAM));
+            assertNotEquals(0L, backend.getCursor(handle));
+
+            long monitor = backend.connectMonitor(1920, 0, new VideoMode(2560, 1440, 8, 8, 8, 144));
+            windowManager.update();
+            assertEquals(2, windowManager.getMonitors().size());
+            assertEquals(1920, windowManager.getMonitor(monitor).getX());
+
+            Monitor published = windowManager.getMonitor(monitor);
+            long version = windowManager.getMonitorVersion();
+            windowManager.refreshMonitors();
+            assertNotSame(published, windowManager.getMonitor(monitor));
+            assertEquals(published.getCurrentMode(), windowManager.getMonitor(monitor).getCurrentMode());
+            assertEquals(version + 1, windowManager.getMonitorVersion());
+
+            backend.inputWindowCloseRequest(handle);
+            windowManager.update();
+            assertTrue(window.isClosed());
+        }
+        assertEquals(0, backend.getWindowCount());
+        assertEquals(0, backend.getCursorCount());
+    }
+
+    @Test
+    public void eventDrivenRedrawsStillPumpInput() {
+        HeadlessBackend backend = new HeadlessBackend();
+        try (WindowManager windowManager = new WindowManager(backend)) {
+            windowManager.setUpdateMode(WindowManager.UpdateMode.EVENT_DRIVEN);
+            Window window = windowManager.create("Test", 800, 600, false);
+            int[] received = new int[1];
+            window.addListener(new WindowEventListener() {
+                @Override
+                public void keyPressed(Window window, int key, int scanCode, KeyMods mods) {
+                    received[0]++;
+                }
+            });
+
+            // A redraw that is already pending returns without waiting, but must still deliver input
+            for (int i = 0; i < 10; i++) {
+                backend.inputKey(window.getHandle(), GLFW_KEY_SPACE, 57, GLFW_PRESS, 0);
+                windowManager.requestRedraw();
+                windowManager.update();
+            }
+            assertEquals(10, received[0]);
+
+            // So must a redraw deadline that has already passed
+            backend.inputKey(window.getHandle(), GLFW_KEY_SPACE, 57, GLFW_PRESS, 0);
+            windowManager.requestRedraw(0);
+            windowManager.update();
+            assertEquals(11, received[0]);
+        }
+    }
+
+    @Test
+    public void lateLatchOnlySkipsPollWhenEveryWindowLatches() {
+        HeadlessBackend backend = new HeadlessBackend();
+        try (WindowManager windowManager = new WindowManager(backend)) {
+            Window latched = windowManager.create("Latched", 800, 600, false);
+            Window window = windowManager.create("Test", 800, 600, false);
+            latched.setLateLatch(true);
+            List<Long> swapsAtInput = new ArrayList<>();
+            window.addListener(new WindowEventListener() {
+                @Override
+                public void keyPressed(Window w, int key, int scanCode, KeyMods mods) {
+                    swapsAtInput.add(backend.getSwapCount(window.getHandle()));
+                }
+            });
+
+            // The other window still gets its input before the frame is presented
+            backend.inputKey(window.getHandle(), GLFW_KEY_SPACE, 57, GLFW_PRESS, 0);
+            windowManager.update();
+            assertEquals(List.of(0L), swapsAtInput);
+
+            // Once every window latches late, input is left for latchInput until after presenting
+            window.setLateLatch(true);
+            backend.inputKey(window.getHandle(), GLFW_KEY_SPACE, 57, GLFW_PRESS, 0);
+            windowManager.update();
+            assertEquals(List.of(0L, 2L), swapsAtInput);
+        }
+    }
+
+    @Test
+    public void crashedRenderThreadHandsBackPresentation() throws InterruptedException {
+        HeadlessBackend backend = new HeadlessBackend();
+        try (WindowManager windowManager = new WindowManager(backend)) {
+            Window window = windowManager.create("Test", 800, 600, false);
+            RuntimeException failure = new RuntimeException("Renderer failed");
+            window.startRenderThread(w -> {
+                throw failure;
+            });
+
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (window.hasRenderThread() && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertFalse(window.hasRenderThread());
+            assertSame(failure, window.getRenderThreadFailure());
+
+            long swaps = backend.getSwapCount(window.getHandle());
+            windowManager.update();
+            assertEquals(swaps + 1, backend.getSwapCount(window.getHandle()));
+        }
+    }
+
+    @Test
+    public void manyWindows() {
+        HeadlessBackend backend = new HeadlessBackend();
+        try (WindowManager windowManager = new WindowManager(backend)) {
+            Window[] windows = new Window[1000];
+            long[] received = new long[1];
+            for (int i = 0; i < windows.length; i++) {
+                windows[i] = windowManager.create("Window " + i, 320, 240, false);
+                windows[i].addListener(new WindowEventListener() {
+                    @Override
+                    public void keyPressed(Window window, int key, int scanCode, KeyMods mods) {
+                        received[0]++;
+                    }
+                });
+            }
+
+            for (int frame = 0; frame < 10; frame++) {
+                for (Window window : windows) {
+                    for (int i = 0; i < 100; i++) {
+                        backend.inputKey(window.getHandle(), GLFW_KEY_SPACE, 57, GLFW_PRESS, 0);
+                    }
+                }
+                windowManager.update();
+            }
+            assertEquals(1_000_000, received[0]);
+        }
+    }
+}
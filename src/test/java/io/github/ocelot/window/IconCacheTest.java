@@ -0,0 +1,86 @@
+package io.github.ocelot.window;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IconCacheTest {
+
+    @Test
+    public void decodeAndShare() throws IOException {
+        byte[] small = png(16, 0x80FF2010);
+        byte[] large = png(32, 0xFF0000FF);
+        AtomicInteger opened = new AtomicInteger();
+        AtomicReference<Thread> decoder = new AtomicReference<>();
+        IconCache cache = new IconCache();
+        try {
+            CompletableFuture<WindowIcon> first = cache.load("app", () -> {
+                opened.incrementAndGet();
+                decoder.set(Thread.currentThread());
+                return new ByteArrayInputStream(small);
+            }, () -> {
+                opened.incrementAndGet();
+                return new ByteArrayInputStream(large);
+            });
+            CompletableFuture<WindowIcon> second = cache.load("app", () -> {
+                throw new AssertionError("Cached icons must not be decoded again");
+            });
+            assertSame(first, second);
+
+            WindowIcon icon = first.join();
+            assertEquals(2, opened.get());
+            assertEquals("Icon Decoder", decoder.get().getName());
+            assertTrue(decoder.get().isDaemon());
+            assertEquals(2, icon.getImageCount());
+            assertEquals(16, icon.getWidth(0));
+            assertEquals(32, icon.getHeight(1));
+            assertEquals((16 * 16 + 32 * 32) * 4, icon.getSize());
+
+            ByteBuffer pixels = icon.getPixels(0);
+            assertEquals((byte) 0xFF, pixels.get(0));
+            assertEquals((byte) 0x20, pixels.get(1));
+            assertEquals((byte) 0x10, pixels.get(2));
+            assertEquals((byte) 0x80, pixels.get(3));
+
+            assertTrue(cache.evict("app"));
+            assertTrue(icon.isFreed());
+            assertEquals(0, cache.size());
+
+            CompletableFuture<WindowIcon> broken = cache.load("broken", () -> new ByteArrayInputStream(new byte[]{1, 2, 3}));
+            assertThrows(CompletionException.class, broken::join);
+            assertEquals(0, cache.size());
+
+            cache.setExecutor(Runnable::run);
+            cache.load("direct", () -> {
+                decoder.set(Thread.currentThread());
+                return new ByteArrayInputStream(small);
+            }).join();
+            assertSame(Thread.currentThread(), decoder.get());
+        } finally {
+            cache.free();
+        }
+    }
+
+    private static byte[] png(int size, int argb) throws IOException {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                image.setRGB(x, y, argb);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.ocelot.window;
+
+import io.github.ocelot.window.input.KeyMods;
+import io.github.ocelot.window.input.KeyboardHandler;
+import io.github.ocelot.window.input.MouseHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.glfw.GLFW.*;
+
+public class InputRecorderTest {
+
+    @Test
+    public void roundTrip(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("session.bin");
+        Window source = new Window(null, 800, 600, false);
+        InputRecorder recorder = new InputRecorder(file);
+        recorder.attach(source);
+        for (int i = 0; i < 1000; i++) {
+            source.onCursorPos(0L, i, i * 2);
+        }
+        source.onKey(0L, GLFW_KEY_W, 17, GLFW_PRESS, GLFW_MOD_CONTROL);
+        source.onResize(0L, 1280, 720);
+        source.receive(WindowEventType.FILES_DROPPED, 0, 0, 0, 0, 0, new Path[]{Paths.get("a.txt"), Paths.get("dir", "b.png")});
+        recorder.free();
+        assertNull(source.getRecorder());
+        assertEquals(1003, recorder.getEventCount());
+
+        // Late events racing with free are dropped instead of writing past the truncated file
+        recorder.record(source, WindowEventType.MOUSE_MOVED, 0, 0, 0, 1, 1, null);
+        recorder.free();
+        assertEquals(1003, recorder.getEventCount());
+
+        Window target = new Window(null, 800, 600, false);
+        MouseHandler mouseHandler = new MouseHandler(target);
+        KeyboardHandler keyboardHandler = new KeyboardHandler();
+        List<Path> dropped = new ArrayList<>();
+        List<KeyMods> mods = new ArrayList<>();
+        target.addListener(mouseHandler);
+        target.addListener(keyboardHandler);
+        target.addListener(new WindowEventListener() {
+            @Override
+            public void filesDropped(Window window, Path... files) {
+                dropped.addAll(List.of(files));
+            }
+
+            @Override
+            public void keyPressed(Window window, int key, int scanCode, KeyMods keyMods) {
+                mods.add(keyMods);
+            }
+        });
+
+        try (InputPlayer player = new InputPlayer(file)) {
+            assertEquals(1003, player.getEventCount());
+            assertEquals(1003, player.play(target, false));
+        }
+
+        assertEquals(999, mouseHandler.getMouseX());
+        assertEquals(1998, mouseHandler.getMouseY());
+        assertTrue(keyboardHandler.isKeyPressed(GLFW_KEY_W));
+        assertEquals(List.of(KeyMods.of(GLFW_MOD_CONTROL)), mods);
+        assertEquals(1280, target.getWindowWidth());
+        assertEquals(List.of(Paths.get("a.txt"), Paths.get("dir", "b.png")), dropped);
+    }
+}
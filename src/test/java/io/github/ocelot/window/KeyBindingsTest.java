@@ -0,0 +1,121 @@
+package io.github.ocelot.window;
+
+import io.github.ocelot.window.input.KeyBinding;
+import io.github.ocelot.window.input.KeyBindings;
+import io.github.ocelot.window.input.KeyMods;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.glfw.GLFW.*;
+
+public class KeyBindingsTest {
+
+    @Test
+    public void modifiersChordsAndSequences() {
+        Window window = new Window(null, 800, 600, false);
+        KeyBindings bindings = new KeyBindings();
+        List<String> fired = new ArrayList<>();
+        KeyBindings.ActionHandler handler = (w, action) -> fired.add(action);
+        window.addListener(bindings);
+
+        bindings.bind("save", KeyBinding.key(GLFW_KEY_S).require(GLFW_MOD_CONTROL).exact(), handler);
+        bindings.bind("jump", KeyBinding.key(GLFW_KEY_SPACE).forbid(GLFW_MOD_CONTROL), handler);
+        bindings.bind("sprintJump", KeyBinding.key(GLFW_KEY_SPACE).hold(GLFW_KEY_W), handler);
+        bindings.bind("copy", KeyBinding.key(GLFW_KEY_C).require(GLFW_MOD_CONTROL), handler);
+        bindings.bind("comment", KeyBinding.key(GLFW_KEY_K).require(GLFW_MOD_CONTROL).then(KeyBinding.key(GLFW_KEY_C).require(GLFW_MOD_CONTROL)), handler);
+
+        press(window, GLFW_KEY_S, GLFW_MOD_CONTROL);
+        press(window, GLFW_KEY_S, GLFW_MOD_CONTROL | GLFW_MOD_SHIFT);
+        press(window, GLFW_KEY_S, GLFW_MOD_CONTROL | GLFW_MOD_CAPS_LOCK);
+        assertEquals(List.of("save", "save"), fired);
+
+        fired.clear();
+        press(window, GLFW_KEY_SPACE, 0);
+        press(window, GLFW_KEY_SPACE, GLFW_MOD_CONTROL);
+        window.onKey(0L, GLFW_KEY_W, 0, GLFW_PRESS, 0);
+        press(window, GLFW_KEY_SPACE, 0);
+        window.onKey(0L, GLFW_KEY_W, 0, GLFW_RELEASE, 0);
+        press(window, GLFW_KEY_SPACE, 0);
+        assertEquals(List.of("jump", "sprintJump", "jump"), fired);
+
+        fired.clear();
+        press(window, GLFW_KEY_C, GLFW_MOD_CONTROL);
+        press(window, GLFW_KEY_K, GLFW_MOD_CONTROL);
+        press(window, GLFW_KEY_C, GLFW_MOD_CONTROL);
+        press(window, GLFW_KEY_C, GLFW_MOD_CONTROL);
+        assertEquals(List.of("copy", "comment", "copy"), fired);
+
+        fired.clear();
+        bindings.rebind("save", KeyBinding.scanCode(42).require(GLFW_MOD_ALT));
+        press(window, GLFW_KEY_S, GLFW_MOD_CONTROL);
+        window.onKey(0L, GLFW_KEY_UNKNOWN, 42, GLFW_PRESS, GLFW_MOD_ALT);
+        assertTrue(bindings.unbind("save"));
+        window.onKey(0L, GLFW_KEY_UNKNOWN, 42, GLFW_PRESS, GLFW_MOD_ALT);
+        assertEquals(List.of("save"), fired);
+        assertNull(bindings.getBinding("save"));
+        assertEquals(4, bindings.size());
+    }
+
+    @Test
+    public void modifierKeysDoNotBreakSequences() {
+        Window window = new Window(null, 800, 600, false);
+        KeyBindings bindings = new KeyBindings();
+        List<String> fired = new ArrayList<>();
+        window.addListener(bindings);
+        bindings.bind("comment", KeyBinding.key(GLFW_KEY_K).require(GLFW_MOD_CONTROL).then(KeyBinding.key(GLFW_KEY_C).require(GLFW_MOD_CONTROL)), (w, action) -> fired.add(action));
+        bindings.bind("shift", KeyBinding.key(GLFW_KEY_LEFT_SHIFT), (w, action) -> fired.add(action));
+
+        // Ctrl is released and pressed again between strokes, like a real keyboard reports it
+        window.onKey(0L, GLFW_KEY_LEFT_CONTROL, 0, GLFW_PRESS, GLFW_MOD_CONTROL);
+        press(window, GLFW_KEY_K, GLFW_MOD_CONTROL);
+        window.onKey(0L, GLFW_KEY_LEFT_CONTROL, 0, GLFW_RELEASE, 0);
+        window.onKey(0L, GLFW_KEY_RIGHT_CONTROL, 0, GLFW_PRESS, GLFW_MOD_CONTROL);
+        press(window, GLFW_KEY_C, GLFW_MOD_CONTROL);
+        window.onKey(0L, GLFW_KEY_RIGHT_CONTROL, 0, GLFW_RELEASE, 0);
+        assertEquals(List.of("comment"), fired);
+
+        // Modifier keys can still be bound on their own
+        fired.clear();
+        window.onKey(0L, GLFW_KEY_LEFT_CONTROL, 0, GLFW_PRESS, GLFW_MOD_CONTROL);
+        press(window, GLFW_KEY_K, GLFW_MOD_CONTROL);
+        press(window, GLFW_KEY_LEFT_SHIFT, GLFW_MOD_CONTROL | GLFW_MOD_SHIFT);
+        press(window, GLFW_KEY_C, GLFW_MOD_CONTROL);
+        window.onKey(0L, GLFW_KEY_LEFT_CONTROL, 0, GLFW_RELEASE, 0);
+        assertEquals(List.of("shift", "comment"), fired);
+    }
+
+    @Test
+    public void chordsInEarlierStrokes() {
+        Window window = new Window(null, 800, 600, false);
+        KeyBindings bindings = new KeyBindings();
+        List<String> fired = new ArrayList<>();
+        window.addListener(bindings);
+        bindings.bind("chord", KeyBinding.key(GLFW_KEY_K).hold(GLFW_KEY_W).then(KeyBinding.key(GLFW_KEY_C)), (w, action) -> fired.add(action));
+
+        press(window, GLFW_KEY_K, 0);
+        press(window, GLFW_KEY_C, 0);
+        assertEquals(List.of(), fired);
+
+        // W only needs to be held for the first stroke
+        window.onKey(0L, GLFW_KEY_W, 0, GLFW_PRESS, 0);
+        press(window, GLFW_KEY_K, 0);
+        window.onKey(0L, GLFW_KEY_W, 0, GLFW_RELEASE, 0);
+        press(window, GLFW_KEY_C, 0);
+        assertEquals(List.of("chord"), fired);
+
+        int[] heldKeys = {GLFW_KEY_W};
+        KeyBinding.Stroke stroke = new KeyBinding.Stroke(GLFW_KEY_K, -1, 0, 0, heldKeys);
+        heldKeys[0] = GLFW_KEY_A;
+        stroke.heldKeys()[0] = GLFW_KEY_A;
+        assertArrayEquals(new int[]{GLFW_KEY_W}, stroke.heldKeys());
+        assertEquals(KeyBinding.key(GLFW_KEY_K).hold(GLFW_KEY_W).getStroke(0), stroke);
+    }
+
+    private static void press(Window window, int key, int mods) {
+        window.onKey(0L, key, 0, GLFW_PRESS, mods);
+        window.onKey(0L, key, 0, GLFW_RELEASE, mods);
+    }
+}
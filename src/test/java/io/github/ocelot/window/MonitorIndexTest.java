@@ -0,0 +1,59 @@
+package io.github.ocelot.window;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonitorIndexTest {
+
+    private static final VideoMode MODE = new VideoMode(1920, 1080, 8, 8, 8, 60);
+
+    @Test
+    public void lookupAndBestMonitor() {
+        Monitor left = new Monitor(WindowBackend.GLFW, 0x7F0000001000L, 0, 0, MODE);
+        Monitor right = new Monitor(WindowBackend.GLFW, 0x7F0000002000L, 1920, 0, MODE);
+        MonitorIndex index = MonitorIndex.EMPTY.with(left, right.getHandle());
+        index = index.with(right, right.getHandle());
+
+        assertEquals(2, index.size());
+        assertEquals(2L, index.getVersion());
+        assertEquals(List.of(left, right), index.getMonitors());
+        assertSame(right, index.getPrimary());
+        assertSame(left, index.get(left.getHandle()));
+        assertSame(right, index.get(right.getHandle()));
+        assertNull(index.get(0x7F0000003000L));
+        assertNull(index.get(0L));
+
+        assertSame(left, index.findBest(100, 100, 900, 700));
+        assertSame(right, index.findBest(1800, 100, 2600, 700));
+        // Equal coverage and no coverage both prefer the primary monitor
+        assertSame(right, index.findBest(1520, 100, 2320, 700));
+        assertSame(right, index.findBest(-5000, -5000, -4000, -4000));
+
+        MonitorIndex previous = index;
+        index = index.without(right.getHandle(), left.getHandle());
+        assertEquals(1, index.size());
+        assertEquals(3L, index.getVersion());
+        assertEquals(2, previous.size(), "Snapshots must not change");
+        assertSame(left, index.getPrimary());
+        assertNull(index.get(right.getHandle()));
+        assertSame(left, index.findBest(1800, 100, 2600, 700));
+        assertNull(MonitorIndex.EMPTY.findBest(0, 0, 100, 100));
+    }
+
+    @Test
+    public void manyMonitors() {
+        Monitor[] monitors = new Monitor[64];
+        for (int i = 0; i < monitors.length; i++) {
+            monitors[i] = new Monitor(WindowBackend.GLFW, 0x7F0000000000L + i * 0x1000L, (i % 8) * MODE.width(), (i / 8) * MODE.height(), MODE);
+        }
+        MonitorIndex index = new MonitorIndex(monitors, monitors[0].getHandle(), 1L);
+        for (int i = 0; i < monitors.length; i++) {
+            Monitor monitor = monitors[i];
+            assertSame(monitor, index.get(monitor.getHandle()));
+            assertSame(monitor, index.findBest(monitor.getX() + 10, monitor.getY() + 10, monitor.getX() + 810, monitor.getY() + 610));
+        }
+    }
+}
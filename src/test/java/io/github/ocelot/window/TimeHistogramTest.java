@@ -0,0 +1,56 @@
+package io.github.ocelot.window;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeHistogramTest {
+
+    @Test
+    public void bucketBoundaries() {
+        TimeHistogram histogram = new TimeHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+
+        // Values below the sub-bucket count each get their own bucket
+        for (int i = 0; i < 16; i++) {
+            histogram.record(i);
+        }
+        for (int i = 0; i < 16; i++) {
+            assertEquals(i, histogram.getPercentile((i + 1) * 100.0 / 16));
+        }
+
+        // From 32, buckets are two wide, so 32 and 33 share one and 34 starts the next
+        histogram.reset();
+        histogram.record(32);
+        histogram.record(34);
+        histogram.record(1000);
+        assertEquals(33, histogram.getPercentile(33));
+        assertEquals(35, histogram.getPercentile(66));
+        assertEquals(1000, histogram.getPercentile(100));
+
+        // Anything past the tracked range lands in the last bucket and reports the real maximum
+        histogram.reset();
+        histogram.record(-5);
+        histogram.record(100_000_000_000L);
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(100_000_000_000L, histogram.getPercentile(100));
+        assertEquals(50_000_000_000.0, histogram.getMean());
+    }
+
+    @Test
+    public void percentiles() {
+        TimeHistogram histogram = new TimeHistogram();
+        for (int i = 1; i <= 1_000_000; i++) {
+            histogram.record(i);
+        }
+        assertEquals(1_000_000, histogram.getCount());
+        assertEquals(1, histogram.getMin());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(1, histogram.getPercentile(0));
+        for (double percentile : new double[]{10, 50, 90, 99, 99.9, 100}) {
+            double expected = percentile * 10_000;
+            assertEquals(expected, histogram.getPercentile(percentile), expected * 0.03, "p" + percentile);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.ocelot.window;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VideoModeIndexTest {
+
+    private static final VideoMode DESKTOP = new VideoMode(2560, 1440, 8, 8, 8, 60);
+
+    @Test
+    public void findVideoMode() {
+        VideoModeIndex index = new VideoModeIndex(List.of(
+                new VideoMode(1920, 1080, 8, 8, 8, 60),
+                new VideoMode(1920, 1080, 8, 8, 8, 144),
+                new VideoMode(1920, 1080, 10, 10, 10, 240),
+                new VideoMode(2560, 1440, 8, 8, 8, 165),
+                DESKTOP,
+                new VideoMode(2560, 1440, 8, 8, 8, 120),
+                new VideoMode(1280, 720, 8, 8, 8, 60)
+        ));
+
+        assertEquals(DESKTOP, index.find(VideoModePreference.current(), DESKTOP));
+        assertEquals(new VideoMode(2560, 1440, 8, 8, 8, 165), index.find(VideoModePreference.highestRefreshRate(), DESKTOP));
+        assertEquals(new VideoMode(1920, 1080, 10, 10, 10, 240), index.find(VideoModePreference.resolution(1920, 1080).withRefreshRate(VideoModePreference.HIGHEST), DESKTOP));
+        assertEquals(new VideoMode(1920, 1080, 8, 8, 8, 144), index.find(VideoModePreference.resolution(1920, 1080).withRefreshRate(150), DESKTOP));
+        assertEquals(new VideoMode(1920, 1080, 10, 10, 10, 240), index.find(VideoModePreference.resolution(1920, 1080).withMinBitDepth(30), DESKTOP));
+
+        // Unsupported resolutions use the closest one, and bit depth can force a different resolution
+        assertEquals(new VideoMode(1920, 1080, 8, 8, 8, 60), index.find(VideoModePreference.resolution(1900, 1000), DESKTOP));
+        assertEquals(new VideoMode(1920, 1080, 10, 10, 10, 240), index.find(VideoModePreference.current().withMinBitDepth(30), DESKTOP));
+        assertNull(index.find(VideoModePreference.current().withMinBitDepth(36), DESKTOP));
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.ocelot.window;
+
+import io.github.ocelot.window.input.KeyMods;
+import io.github.ocelot.window.input.KeyboardHandler;
+import io.github.ocelot.window.input.MouseHandler;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.glfw.GLFW.*;
+
+public class WindowDispatchTest {
+
+    private static final int EVENTS = 100_000;
+
+    @Test
+    public void internedMods() {
+        for (int mods = 0; mods < 64; mods++) {
+            KeyMods keyMods = KeyMods.of(mods);
+            assertSame(keyMods, KeyMods.of(mods));
+            assertEquals(new KeyMods(mods), keyMods);
+        }
+    }
+
+    @Test
+    public void dispatchDoesNotAllocate() {
+        Window window = new Window(null, 800, 600, false);
+        window.addListener(new KeyboardHandler());
+        window.addListener(new MouseHandler(window));
+        window.addListener(new WindowEventListener() {
+        });
+
+        // Warm up so class loading and JIT compilation are not measured
+        fire(window);
+        fire(window);
+
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        bean.getCurrentThreadAllocatedBytes();
+        long overhead = bean.getCurrentThreadAllocatedBytes();
+        overhead = bean.getCurrentThreadAllocatedBytes() - overhead;
+
+        long start = bean.getCurrentThreadAllocatedBytes();
+        fire(window);
+        long allocated = bean.getCurrentThreadAllocatedBytes() - start - overhead;
+
+        // One-off allocations by the JIT can show up here, but anything allocated per event would be far larger
+        assertEquals(0, allocated / EVENTS, "Allocated " + allocated + " bytes for " + EVENTS + " events");
+    }
+
+    @Test
+    public void priorityAndConsumption() {
+        Window window = new Window(null, 800, 600, false);
+        List<String> calls = new ArrayList<>();
+        window.addListener(new WindowEventListener() {
+            @Override
+            public void keyPressed(Window window, int key, int scanCode, KeyMods mods) {
+                calls.add("low");
+            }
+        }, -1);
+        window.addListener(new WindowEventListener() {
+            @Override
+            public void keyPressed(Window window, int key, int scanCode, KeyMods mods) {
+                calls.add("high");
+                if (key == GLFW_KEY_ESCAPE) {
+                    window.consumeEvent();
+                }
+            }
+        }, 10);
+        window.addListener(new WindowEventListener() {
+            @Override
+            public void keyPressed(Window window, int key, int scanCode, KeyMods mods) {
+                calls.add("default");
+            }
+        });
+
+        window.onKey(0L, GLFW_KEY_A, 0, GLFW_PRESS, 0);
+        assertEquals(List.of("high", "default", "low"), calls);
+
+        calls.clear();
+        window.onKey(0L, GLFW_KEY_ESCAPE, 0, GLFW_PRESS, 0);
+        assertEquals(List.of("high"), calls);
+
+        // Nothing overrides keyReleased, so nothing should be subscribed to it
+        assertEquals(0, window.getListeners(WindowEventType.KEY_RELEASED).length);
+    }
+
+    @Test
+    public void modifyDuringDispatch() {
+        Window window = new Window(null, 800, 600, false);
+        List<String> calls = new ArrayList<>();
+        WindowEventListener second = new WindowEventListener() {
+            @Override
+            public void mouseScrolled(Window window, double dx, double dy) {
+                calls.add("second");
+            }
+        };
+        window.addListener(new WindowEventListener() {
+            @Override
+            public void mouseScrolled(Window window, double dx, double dy) {
+                calls.add("first");
+                window.removeListener(this);
+                window.removeListener(second);
+                window.addListener(second);
+            }
+        });
+        window.addListener(second);
+
+        assertDoesNotThrow(() -> window.onScroll(0L, 0, 1));
+        assertEquals(List.of("first", "second"), calls);
+
+        calls.clear();
+        window.onScroll(0L, 0, 1);
+        assertEquals(List.of("second"), calls);
+    }
+
+    @Test
+    public void coalesceGeometryEvents() {
+        Window window = new Window(null, 800, 600, false);
+        List<String> calls = new ArrayList<>();
+        window.addListener(new WindowEventListener() {
+            @Override
+            public void windowMoved(Window window, int x, int y) {
+                calls.add("moved " + x + "," + y);
+            }
+
+            @Override
+            public void windowResized(Window window, int width, int height) {
+                calls.add("resized " + width + "x" + height);
+            }
+
+            @Override
+            public void framebufferResized(Window window, int width, int height) {
+                calls.add("framebuffer " + width + "x" + height);
+            }
+
+            @Override
+            public void keyPressed(Window window, int key, int scanCode, KeyMods mods) {
+                calls.add("key");
+            }
+        });
+        window.setCoalesceEvents(true);
+
+        for (int i = 1; i <= 10; i++) {
+            window.onResize(0L, 800 + i, 600 + i);
+            window.onFramebufferResize(0L, 1600 + i, 1200 + i);
+        }
+        window.onMove(0L, 5, 6);
+        window.onKey(0L, GLFW_KEY_A, 0, GLFW_PRESS, 0);
+        assertEquals(List.of("key"), calls);
+        assertEquals(810, window.getWindowWidth());
+
+        window.flushCoalescedEvents();
+        assertEquals(List.of("key", "moved 5,6", "resized 810x610", "framebuffer 1610x1210"), calls);
+        assertEquals(18, window.getCoalescedEventCount());
+
+        calls.clear();
+        window.flushCoalescedEvents();
+        window.onMove(0L, 7, 8);
+        window.setCoalesceEvents(false);
+        window.onMove(0L, 9, 10);
+        assertEquals(List.of("moved 7,8", "moved 9,10"), calls);
+    }
+
+    private static void fire(Window window) {
+        for (int i = 0; i < EVENTS; i++) {
+            int mods = i & 0x3F;
+            window.onKey(0L, GLFW_KEY_A + (i & 15), i & 255, GLFW_PRESS, mods);
+            window.onKey(0L, GLFW_KEY_A + (i & 15), i & 255, GLFW_RELEASE, mods);
+            window.onChar(0L, 'a' + (i & 15), mods);
+            window.onMouseButton(0L, i & 7, GLFW_PRESS, mods);
+            window.onMouseButton(0L, i & 7, GLFW_RELEASE, mods);
+            window.onCursorPos(0L, i, -i);
+            window.onScroll(0L, 0, 1);
+            window.onCursorEnter(0L, (i & 1) == 0);
+            window.onMove(0L, i, i);
+            window.onResize(0L, 800, 600);
+            window.onFramebufferResize(0L, 800, 600);
+        }
+    }
+}
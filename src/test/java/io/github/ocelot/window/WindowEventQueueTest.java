@@ -0,0 +1,188 @@
+package io.github.ocelot.window;
+
+import io.github.ocelot.window.input.KeyMods;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.glfw.GLFW.*;
+
+public class WindowEventQueueTest {
+
+    @Test
+    public void queuedDispatch() {
+        Window window = new Window(null, 800, 600, false);
+        List<Integer> keys = new ArrayList<>();
+        window.addListener(new WindowEventListener() {
+            @Override
+            public void keyPressed(Window window, int key, int scanCode, KeyMods mods) {
+                assertTrue(mods.shift());
+                keys.add(key);
+            }
+        });
+
+        WindowEventQueue queue = new WindowEventQueue(4, WindowEventQueue.OverflowPolicy.DROP_NEWEST);
+        try {
+            window.setEventQueue(queue);
+            for (int i = 0; i < 6; i++) {
+                window.onKey(0L, GLFW_KEY_A + i, 0, GLFW_PRESS, GLFW_MOD_SHIFT);
+            }
+            window.onResize(0L, 1024, 768);
+
+            // State is updated immediately, but nothing is dispatched yet
+            assertEquals(1024, window.getWindowWidth());
+            assertTrue(keys.isEmpty());
+            assertEquals(4, queue.size());
+            assertEquals(3, queue.getDroppedCount());
+
+            assertEquals(2, queue.drain(2));
+            assertEquals(List.of(GLFW_KEY_A, GLFW_KEY_B), keys);
+            assertEquals(2, queue.drain());
+            assertEquals(List.of(GLFW_KEY_A, GLFW_KEY_B, GLFW_KEY_C, GLFW_KEY_D), keys);
+            assertEquals(4, queue.getHighWaterMark());
+        } finally {
+            queue.free();
+        }
+    }
+
+    @Test
+    public void managerOwnsQueues() {
+        HeadlessBackend backend = new HeadlessBackend();
+        try (WindowManager windowManager = new WindowManager(backend)) {
+            Window window = windowManager.create("Test", 800, 600, false);
+            List<Integer> keys = new ArrayList<>();
+            window.addListener(new WindowEventListener() {
+                @Override
+                public void keyPressed(Window window, int key, int scanCode, KeyMods mods) {
+                    keys.add(key);
+                }
+            });
+
+            WindowEventQueue first = windowManager.enableEventQueue(16, WindowEventQueue.OverflowPolicy.DROP_NEWEST);
+            backend.inputKey(window.getHandle(), GLFW_KEY_A, 30, GLFW_PRESS, 0);
+            windowManager.update();
+            assertTrue(keys.isEmpty());
+
+            // Nothing drained the old queue yet, so replacing it dispatches what was left and frees it
+            WindowEventQueue second = windowManager.enableEventQueue(16, WindowEventQueue.OverflowPolicy.DROP_NEWEST);
+            assertEquals(List.of(GLFW_KEY_A), keys);
+            assertTrue(first.isRetired());
+            assertTrue(first.isFreed());
+            assertEquals(0, first.drain());
+            first.free();
+
+            // Installed queues can only be released through the manager
+            assertThrows(IllegalStateException.class, second::free);
+            windowManager.disableEventQueue();
+            assertTrue(second.isFreed());
+            assertNull(windowManager.getEventQueue());
+        }
+    }
+
+    @Test
+    public void consumerFinishesRetiredQueue() throws InterruptedException {
+        HeadlessBackend backend = new HeadlessBackend();
+        try (WindowManager windowManager = new WindowManager(backend)) {
+            Window window = windowManager.create("Test", 800, 600, false);
+            WindowEventQueue queue = windowManager.enableEventQueue(1024, WindowEventQueue.OverflowPolicy.DROP_NEWEST);
+            for (int i = 0; i < 500; i++) {
+                backend.inputKey(window.getHandle(), GLFW_KEY_A, 30, GLFW_PRESS, 0);
+            }
+            windowManager.update();
+
+            Thread mainThread = Thread.currentThread();
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch retired = new CountDownLatch(1);
+            int[] received = new int[1];
+            boolean[] drainedOnMain = new boolean[1];
+            WindowEventQueue.EventHandler handler = (w, type, i0, i1, i2, d0, d1, payload, timestamp) -> {
+                if (type == WindowEventType.KEY_PRESSED) {
+                    received[0]++;
+                    drainedOnMain[0] |= Thread.currentThread() == mainThread;
+                }
+            };
+            Thread consumer = new Thread(() -> {
+                queue.drain(handler, 16);
+                started.countDown();
+                try {
+                    retired.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (!queue.isFreed()) {
+                    queue.drain(handler, 16);
+                }
+            });
+            consumer.start();
+
+            // The consumer keeps draining after the queue is retired and frees it once it is empty
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            windowManager.disableEventQueue();
+            assertTrue(queue.isRetired());
+            assertFalse(queue.isFreed());
+            retired.countDown();
+            consumer.join(10_000);
+            assertFalse(consumer.isAlive());
+            assertTrue(queue.isFreed());
+            assertEquals(500, received[0]);
+            assertFalse(drainedOnMain[0]);
+        }
+    }
+
+    @Test
+    public void dropOldest() {
+        Window window = new Window(null, 800, 600, false);
+        WindowEventQueue queue = new WindowEventQueue(4, WindowEventQueue.OverflowPolicy.DROP_OLDEST);
+        try {
+            window.setEventQueue(queue);
+            for (int i = 0; i < 10; i++) {
+                window.onCursorPos(0L, i, i);
+            }
+
+            List<Double> positions = new ArrayList<>();
+            queue.drain((w, type, i0, i1, i2, d0, d1, payload, timestamp) -> {
+                assertSame(window, w);
+                assertEquals(WindowEventType.MOUSE_MOVED, type);
+                positions.add(d0);
+            }, Integer.MAX_VALUE);
+            assertEquals(List.of(6.0, 7.0, 8.0, 9.0), positions);
+            assertEquals(6, queue.getDroppedCount());
+        } finally {
+            queue.free();
+        }
+    }
+
+    @Test
+    public void concurrentConsumer() throws InterruptedException {
+        int events = 1_000_000;
+        Window window = new Window(null, 800, 600, false);
+        WindowEventQueue queue = new WindowEventQueue(256, WindowEventQueue.OverflowPolicy.BLOCK);
+        try {
+            window.setEventQueue(queue);
+
+            long[] sum = new long[1];
+            Thread consumer = new Thread(() -> {
+                long received = 0;
+                while (received < events) {
+                    received += queue.drain((w, type, i0, i1, i2, d0, d1, payload, timestamp) -> sum[0] += i0, 64);
+                }
+            });
+            consumer.start();
+            for (int i = 0; i < events; i++) {
+                window.onMove(0L, i, 0);
+            }
+            consumer.join(30_000);
+
+            assertFalse(consumer.isAlive());
+            assertEquals((long) events * (events - 1) / 2, sum[0]);
+            assertEquals(0, queue.getDroppedCount());
+            assertEquals(events, queue.getDrainedCount());
+        } finally {
+            queue.free();
+        }
+    }
+}
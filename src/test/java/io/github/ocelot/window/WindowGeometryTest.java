@@ -0,0 +1,44 @@
+package io.github.ocelot.window;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WindowGeometryTest {
+
+    @Test
+    public void snapshotsAreConsistent() throws InterruptedException {
+        Window window = new Window(null, 600, 600, false);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            // Every size is square, so a torn read would show a width and height from different events
+            for (int i = 1; running.get(); i++) {
+                window.receive(WindowEventType.RESIZED, i, i, 0, 0, 0, null);
+                window.receive(WindowEventType.FRAMEBUFFER_RESIZED, i * 2, i * 2, 0, 0, 0, null);
+            }
+        });
+        writer.start();
+
+        try {
+            WindowGeometry geometry = new WindowGeometry();
+            for (int i = 0; i < 1_000_000; i++) {
+                window.getGeometry(geometry);
+                assertEquals(geometry.getWidth(), geometry.getHeight(), geometry::toString);
+                assertEquals(geometry.getFramebufferWidth(), geometry.getFramebufferHeight(), geometry::toString);
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+
+        window.receive(WindowEventType.MOVED, 10, 20, 0, 0, 0, null);
+        window.receive(WindowEventType.FOCUS_CHANGED, 1, 0, 0, 0, 0, null);
+        WindowGeometry geometry = window.getGeometry();
+        assertEquals(10, geometry.getX());
+        assertEquals(20, geometry.getY());
+        assertTrue(geometry.isFocused());
+        assertFalse(geometry.isFullscreen());
+    }
+}
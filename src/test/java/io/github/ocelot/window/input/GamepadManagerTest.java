@@ -0,0 +1,195 @@
+package io.github.ocelot.window.input;
+
+import org.junit.jupiter.api.Test;
+import org.lwjgl.glfw.GLFWGamepadState;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.glfw.GLFW.*;
+
+public class GamepadManagerTest {
+
+    @Test
+    public void hotplugAndChanges() {
+        FakeBackend backend = new FakeBackend();
+        GamepadManager manager = new GamepadManager(backend);
+        List<String> events = new ArrayList<>();
+        manager.addListener(new GamepadListener() {
+            @Override
+            public void gamepadConnected(Gamepad gamepad) {
+                events.add("connected " + gamepad.getName());
+            }
+
+            @Override
+            public void gamepadDisconnected(Gamepad gamepad) {
+                events.add("disconnected " + gamepad.getJoystickId());
+            }
+
+            @Override
+            public void buttonPressed(Gamepad gamepad, int button) {
+                events.add("pressed " + button);
+            }
+
+            @Override
+            public void buttonReleased(Gamepad gamepad, int button) {
+                events.add("released " + button);
+            }
+
+            @Override
+            public void axisMoved(Gamepad gamepad, int axis, float value) {
+                events.add("axis " + axis);
+            }
+        });
+
+        try {
+            assertNull(manager.getFirstGamepad());
+            backend.present = true;
+            manager.joystickChanged(GLFW_JOYSTICK_3, GLFW_CONNECTED);
+            Gamepad gamepad = manager.getFirstGamepad();
+            assertNotNull(gamepad);
+            assertEquals(GLFW_JOYSTICK_3, gamepad.getJoystickId());
+
+            // Triggers rest at -1 and sticks drift inside the deadzone
+            backend.axes[GLFW_GAMEPAD_AXIS_LEFT_TRIGGER] = -1;
+            backend.axes[GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER] = -1;
+            backend.axes[GLFW_GAMEPAD_AXIS_LEFT_X] = 0.05F;
+            manager.poll();
+            assertEquals(List.of("connected Fake"), events);
+
+            events.clear();
+            backend.buttons[GLFW_GAMEPAD_BUTTON_A] = GLFW_PRESS;
+            backend.axes[GLFW_GAMEPAD_AXIS_LEFT_X] = 1;
+            manager.poll();
+            assertEquals(List.of("pressed " + GLFW_GAMEPAD_BUTTON_A, "axis " + GLFW_GAMEPAD_AXIS_LEFT_X), events);
+            assertTrue(gamepad.wasButtonPressed(GLFW_GAMEPAD_BUTTON_A));
+            assertEquals(1.0F, gamepad.getAxis(GLFW_GAMEPAD_AXIS_LEFT_X), 1.0E-6F);
+
+            events.clear();
+            manager.poll();
+            assertEquals(List.of(), events);
+            assertTrue(gamepad.isButtonDown(GLFW_GAMEPAD_BUTTON_A));
+            assertFalse(gamepad.wasButtonPressed(GLFW_GAMEPAD_BUTTON_A));
+
+            backend.buttons[GLFW_GAMEPAD_BUTTON_A] = GLFW_RELEASE;
+            backend.axes[GLFW_GAMEPAD_AXIS_LEFT_X] = 0.55F;
+            backend.axes[GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER] = 1;
+            manager.poll();
+            assertEquals(List.of("released " + GLFW_GAMEPAD_BUTTON_A, "axis " + GLFW_GAMEPAD_AXIS_LEFT_X, "axis " + GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER), events);
+            assertEquals(0.5F, gamepad.getAxis(GLFW_GAMEPAD_AXIS_LEFT_X), 1.0E-6F);
+            assertEquals(1.0F, gamepad.getAxis(GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER), 1.0E-6F);
+
+            events.clear();
+            backend.present = false;
+            manager.joystickChanged(GLFW_JOYSTICK_3, GLFW_DISCONNECTED);
+            manager.poll();
+            assertEquals(List.of("disconnected " + GLFW_JOYSTICK_3), events);
+            assertFalse(gamepad.isConnected());
+            assertEquals(0, manager.getConnectedCount());
+        } finally {
+            manager.free();
+        }
+    }
+
+    @Test
+    public void listenersCanRemoveThemselves() {
+        FakeBackend backend = new FakeBackend();
+        GamepadManager manager = new GamepadManager(backend);
+        List<String> events = new ArrayList<>();
+        manager.addListener(new GamepadListener() {
+            @Override
+            public void gamepadConnected(Gamepad gamepad) {
+                events.add("once");
+                manager.removeListener(this);
+            }
+        });
+        manager.addListener(new GamepadListener() {
+            @Override
+            public void gamepadConnected(Gamepad gamepad) {
+                events.add("always");
+            }
+        });
+
+        try {
+            backend.present = true;
+            manager.joystickChanged(GLFW_JOYSTICK_1, GLFW_CONNECTED);
+            manager.joystickChanged(GLFW_JOYSTICK_2, GLFW_CONNECTED);
+            assertEquals(List.of("once", "always", "always"), events);
+
+            assertEquals(GLFW_JOYSTICK_LAST, manager.getGamepad(GLFW_JOYSTICK_LAST).getJoystickId());
+            assertThrows(IllegalArgumentException.class, () -> manager.getGamepad(-1));
+            assertThrows(IllegalArgumentException.class, () -> manager.getGamepad(GLFW_JOYSTICK_LAST + 1));
+        } finally {
+            manager.free();
+        }
+    }
+
+    @Test
+    public void pollDoesNotAllocate() {
+        FakeBackend backend = new FakeBackend();
+        backend.present = true;
+        GamepadManager manager = new GamepadManager(backend);
+        manager.addListener(new GamepadListener() {
+        });
+        try {
+            for (int i = 0; i < 100_000; i++) {
+                poll(manager, backend, i);
+            }
+
+            com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long thread = Thread.currentThread().getId();
+            long before = bean.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < 100_000; i++) {
+                poll(manager, backend, i);
+            }
+            long allocated = bean.getThreadAllocatedBytes(thread) - before;
+            assertEquals(0, allocated / 100_000, "Polling allocated " + allocated + " bytes");
+        } finally {
+            manager.free();
+        }
+    }
+
+    private static void poll(GamepadManager manager, FakeBackend backend, int i) {
+        backend.buttons[i % Gamepad.BUTTON_COUNT] ^= GLFW_PRESS;
+        backend.axes[i % Gamepad.AXIS_COUNT] = (i & 255) / 128.0F - 1;
+        manager.poll();
+    }
+
+    private static class FakeBackend implements GamepadBackend {
+
+        private final byte[] buttons = new byte[Gamepad.BUTTON_COUNT];
+        private final float[] axes = new float[Gamepad.AXIS_COUNT];
+        private boolean present;
+
+        @Override
+        public boolean isPresent(int jid) {
+            return this.present;
+        }
+
+        @Override
+        public boolean isGamepad(int jid) {
+            return this.present;
+        }
+
+        @Override
+        public String getName(int jid) {
+            return this.present ? "Fake" : null;
+        }
+
+        @Override
+        public boolean getState(int jid, GLFWGamepadState state) {
+            if (!this.present) {
+                return false;
+            }
+            for (int i = 0; i < this.buttons.length; i++) {
+                state.buttons(i, this.buttons[i]);
+            }
+            for (int i = 0; i < this.axes.length; i++) {
+                state.axes(i, this.axes[i]);
+            }
+            return true;
+        }
+    }
+}
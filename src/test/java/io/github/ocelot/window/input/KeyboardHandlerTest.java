@@ -0,0 +1,82 @@
+package io.github.ocelot.window.input;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.glfw.GLFW.*;
+
+public class KeyboardHandlerTest {
+
+    private static final KeyMods NONE = KeyMods.of(0);
+
+    @Test
+    public void pressAndReleaseInOneTick() {
+        KeyboardHandler keyboard = new KeyboardHandler();
+        keyboard.keyPressed(null, GLFW_KEY_SPACE, 57, NONE);
+        keyboard.keyReleased(null, GLFW_KEY_SPACE, 57, NONE);
+        keyboard.keyPressed(null, GLFW_KEY_SPACE, 57, NONE);
+        keyboard.keyReleased(null, GLFW_KEY_SPACE, 57, NONE);
+
+        // Nothing is visible until the tick ends
+        assertFalse(keyboard.wasPressed(GLFW_KEY_SPACE));
+        assertFalse(keyboard.isKeyPressed(GLFW_KEY_SPACE));
+
+        keyboard.tick();
+        assertTrue(keyboard.wasPressed(GLFW_KEY_SPACE));
+        assertTrue(keyboard.wasReleased(GLFW_KEY_SPACE));
+        assertFalse(keyboard.isKeyPressed(GLFW_KEY_SPACE));
+        assertEquals(2, keyboard.getPressCount(GLFW_KEY_SPACE));
+
+        keyboard.tick();
+        assertFalse(keyboard.wasPressed(GLFW_KEY_SPACE));
+        assertFalse(keyboard.wasReleased(GLFW_KEY_SPACE));
+        assertEquals(0, keyboard.getPressCount(GLFW_KEY_SPACE));
+    }
+
+    @Test
+    public void repeatsAreNotPresses() {
+        KeyboardHandler keyboard = new KeyboardHandler();
+        keyboard.keyPressed(null, GLFW_KEY_A, 30, NONE);
+        for (int i = 0; i < 5; i++) {
+            keyboard.keyRepeated(null, GLFW_KEY_A, 30, NONE);
+        }
+        keyboard.tick();
+        assertTrue(keyboard.isKeyPressed(GLFW_KEY_A));
+        assertEquals(1, keyboard.getPressCount(GLFW_KEY_A));
+
+        // A held key stays down across ticks without being reported as pressed again
+        keyboard.keyRepeated(null, GLFW_KEY_A, 30, NONE);
+        keyboard.tick();
+        assertTrue(keyboard.isKeyPressed(GLFW_KEY_A));
+        assertFalse(keyboard.wasPressed(GLFW_KEY_A));
+        assertEquals(0, keyboard.getPressCount(GLFW_KEY_A));
+    }
+
+    @Test
+    public void scanCodeKeys() {
+        KeyboardHandler keyboard = new KeyboardHandler();
+        keyboard.keyPressed(null, GLFW_KEY_UNKNOWN, 400, NONE);
+        keyboard.keyPressed(null, GLFW_KEY_UNKNOWN, KeyboardHandler.MAX_SCAN_CODE, NONE);
+        keyboard.keyPressed(null, GLFW_KEY_UNKNOWN, KeyboardHandler.MAX_SCAN_CODE + 1, NONE);
+        keyboard.keyPressed(null, GLFW_KEY_LAST + 1, 0, NONE);
+        keyboard.tick();
+
+        assertTrue(keyboard.isKeyPressed(GLFW_KEY_UNKNOWN, 400));
+        assertTrue(keyboard.wasPressed(GLFW_KEY_UNKNOWN, KeyboardHandler.MAX_SCAN_CODE));
+        assertEquals(1, keyboard.getPressCount(GLFW_KEY_UNKNOWN, 400));
+
+        // Scan codes are stored after the key codes, so they never alias a real key
+        assertFalse(keyboard.isKeyPressed(GLFW_KEY_LAST));
+        assertFalse(keyboard.isKeyPressed(GLFW_KEY_UNKNOWN, 0));
+
+        // Keys outside the tracked range are ignored
+        assertFalse(keyboard.isKeyPressed(GLFW_KEY_UNKNOWN, KeyboardHandler.MAX_SCAN_CODE + 1));
+        assertFalse(keyboard.isKeyPressed(GLFW_KEY_LAST + 1));
+        assertEquals(0, keyboard.getPressCount(GLFW_KEY_LAST + 1));
+
+        keyboard.keyReleased(null, GLFW_KEY_UNKNOWN, 400, NONE);
+        keyboard.tick();
+        assertFalse(keyboard.isKeyPressed(GLFW_KEY_UNKNOWN, 400));
+        assertTrue(keyboard.wasReleased(GLFW_KEY_UNKNOWN, 400));
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.ocelot.window.input;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MouseMotionHistoryTest {
+
+    @Test
+    public void overflowKeepsNewestInOrder() {
+        MouseMotionHistory history = new MouseMotionHistory(5);
+        assertEquals(8, history.getCapacity());
+        assertTrue(history.isEmpty());
+
+        for (int i = 0; i < 20; i++) {
+            history.record(1000 + i, i, -i, 1, -1);
+        }
+        assertEquals(8, history.size());
+        assertEquals(12, history.getDroppedCount());
+
+        // The oldest samples are overwritten, and the rest stay oldest to newest across the wrap
+        for (int i = 0; i < 8; i++) {
+            assertEquals(1012 + i, history.getTime(i));
+            assertEquals(12 + i, history.getX(i));
+            assertEquals(-12 - i, history.getY(i));
+        }
+        List<Long> times = new ArrayList<>();
+        history.forEach((time, x, y, dx, dy) -> times.add(time));
+        assertEquals(List.of(1012L, 1013L, 1014L, 1015L, 1016L, 1017L, 1018L, 1019L), times);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> history.getX(8));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.getX(-1));
+    }
+
+    @Test
+    public void clearStartsOver() {
+        MouseMotionHistory history = new MouseMotionHistory(4);
+        for (int i = 0; i < 6; i++) {
+            history.record(i, i, i, i, i);
+        }
+        history.clear();
+        assertTrue(history.isEmpty());
+        assertEquals(2, history.getDroppedCount());
+        assertThrows(IndexOutOfBoundsException.class, () -> history.getTime(0));
+
+        history.record(10, 1, 2, 3, 4);
+        history.record(11, 5, 6, 7, 8);
+        assertEquals(2, history.size());
+        assertEquals(10, history.getTime(0));
+        assertEquals(3, history.getDX(0));
+        assertEquals(8, history.getDY(1));
+
+        // Filling exactly to capacity does not drop anything
+        history.record(12, 0, 0, 0, 0);
+        history.record(13, 0, 0, 0, 0);
+        assertEquals(4, history.size());
+        assertEquals(2, history.getDroppedCount());
+        assertEquals(13, history.getTime(3));
+    }
+
+    @Test
+    public void invalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MouseMotionHistory(0));
+        assertThrows(IllegalArgumentException.class, () -> new MouseMotionHistory((1 << 30) + 1));
+    }
+}